@@ -0,0 +1,34 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.entity.Employee;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class EmployeeFixtures {
+    private EmployeeFixtures() {}
+
+    public static Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        employee.setFirstName("First" + i);
+        employee.setLastName("Last" + i);
+        employee.setEmail("employee" + i + "@example.com");
+        employee.setPhoneNumber("+972500" + String.format("%07d", i));
+        employee.setPosition(i % 3 == 0 ? "Engineer" : "Analyst");
+        employee.setSalary(BigDecimal.valueOf(10_000 + (i % 5_000), 2));
+        employee.setHireDate(LocalDate.of(2015, 1, 1).plusDays(i % 3_000));
+        employee.setVersion(0L);
+        return employee;
+    }
+
+    public static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+}
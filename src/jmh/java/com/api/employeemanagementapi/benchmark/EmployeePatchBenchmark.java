@@ -0,0 +1,38 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.entity.Employee;
+import org.openjdk.jmh.annotations.*;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeePatchBenchmark {
+    private Employee employee;
+    private EmployeePatch fullPatch;
+    private EmployeePatch salaryOnlyPatch;
+
+    @Setup
+    public void setUp() {
+        employee = EmployeeFixtures.employee(1);
+        fullPatch = new EmployeePatch(BigDecimal.valueOf(20_000), "new@example.com", "+9725000001", "Manager");
+        salaryOnlyPatch = new EmployeePatch(BigDecimal.valueOf(21_000), null, null, null);
+    }
+
+    @Benchmark
+    public Employee applyFullPatch() {
+        fullPatch.applyPartially(employee);
+        return employee;
+    }
+
+    @Benchmark
+    public Employee applySalaryOnlyPatch() {
+        salaryOnlyPatch.applyPartially(employee);
+        return employee;
+    }
+}
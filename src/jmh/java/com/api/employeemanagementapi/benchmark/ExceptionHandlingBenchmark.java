@@ -0,0 +1,33 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.GlobalExceptionResponse;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throwing a {@link CustomResponseException} and turning it into an error response, as happens for
+ * every 404/409 returned by the services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlingBenchmark {
+    private final GlobalExceptionResponse handler = new GlobalExceptionResponse();
+    private final UUID id = UUID.randomUUID();
+
+    @Benchmark
+    public ResponseEntity<GlobalResponse<?>> throwAndHandle() {
+        try {
+            throw CustomResponseException.ResourceNotFound("Employee with id " + id + " not found");
+        } catch (CustomResponseException ex) {
+            return handler.handleCustomResponseException(ex);
+        }
+    }
+}
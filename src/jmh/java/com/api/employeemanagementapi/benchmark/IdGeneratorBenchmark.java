@@ -0,0 +1,36 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.service.IdGenerator;
+import com.api.employeemanagementapi.service.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one id from each {@code app.ids.uuid-version} generator, with several threads sharing
+ * one generator as request threads do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Param({"4", "7"})
+    public int version;
+
+    private IdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = version == 7 ? new UuidV7Generator() : IdGenerator.random();
+    }
+
+    @Benchmark
+    public UUID next() {
+        return generator.next();
+    }
+}
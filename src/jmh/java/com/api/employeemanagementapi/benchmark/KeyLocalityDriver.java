@@ -0,0 +1,76 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.service.IdGenerator;
+import com.api.employeemanagementapi.service.UuidV7Generator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bulk inserts into a uuid primary key with random (v4) and time-ordered (v7) ids, then prints
+ * insert throughput and the size of the table and of its primary-key index for each. Random keys
+ * split pages all over the index; ordered keys append to its right edge. Point it at a scratch
+ * PostgreSQL database, since it creates and drops its own tables:
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec@keys -Dkeys.args="url=jdbc:postgresql://localhost:5432/bench username=postgres password=secret rows=2000000"
+ * </pre>
+ */
+public final class KeyLocalityDriver {
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000000"));
+        int batch = Integer.parseInt(options.getOrDefault("batch", "1000"));
+        try (Connection connection = DriverManager.getConnection(options.getOrDefault("url",
+                "jdbc:postgresql://localhost:5432/employee_db"), options.get("username"), options.get("password"))) {
+            System.out.printf("%n== %d rows, batches of %d ==%n", rows, batch);
+            System.out.printf("%-4s %10s %12s %12s %12s%n", "ids", "seconds", "rows/s", "table MB", "pkey MB");
+            run(connection, "v4", IdGenerator.random(), rows, batch);
+            run(connection, "v7", new UuidV7Generator(), rows, batch);
+        }
+    }
+
+    private static void run(Connection connection, String label, IdGenerator ids, int rows, int batch) throws SQLException {
+        String table = "key_locality_" + label;
+        connection.setAutoCommit(true);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists " + table);
+            ddl.execute("create table " + table + " (id uuid primary key, hire_date date not null, salary numeric(12, 2) not null)");
+        }
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into " + table + " (id, hire_date, salary) values (?, current_date, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.next());
+                insert.setInt(2, 5_000 + i % 5_000);
+                insert.addBatch();
+                if (i % batch == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        connection.setAutoCommit(true);
+        try (Statement query = connection.createStatement()) {
+            query.execute("analyze " + table);
+            try (ResultSet sizes = query.executeQuery(
+                    "select pg_table_size('" + table + "'), pg_relation_size('" + table + "_pkey')")) {
+                sizes.next();
+                System.out.printf("%-4s %10.1f %12.0f %12.1f %12.1f%n", label, seconds, rows / seconds,
+                        sizes.getLong(1) / 1048576.0, sizes.getLong(2) / 1048576.0);
+            }
+            query.execute("drop table " + table);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load against a running instance: each simulated user logs in, then loops over a
+ * fixed mix of reads, creates, patches, deletes and logins until the duration is up. Run it once
+ * against the app started with {@code APP_VIRTUAL_THREADS=false} and once with {@code true}, using
+ * the same arguments, and compare the two reports:
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec@load -Dload.args="url=http://localhost:8080 users=500 duration=60s username=admin password=secret label=platform"
+ * </pre>
+ * {@code api=v1,v2} runs the same mix against {@code /employees} and then {@code /v2/employees}
+ * and prints the two side by side.
+ * <p>
+ * Every simulated user logs in with the same username from the same address, so start the app with
+ * the login rate limits raised (see the README); otherwise most users are refused with 429 and the
+ * report warns about the users that never got a token.
+ */
+public final class LoadDriver {
+    enum Operation { GET, PAGE, CREATE, PATCH, DELETE, LOGIN }
+
+    record Summary(String label, long requests, double perSecond, long errors, double p50, double p99) {}
+
+    // Cumulative weights out of 100: 40% single reads, 20% page reads, 15% creates, 10% patches, 5% deletes, 10% logins.
+    private static final int[] MIX = {40, 60, 75, 85, 90, 100};
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final HttpClient client;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String employeesPath;
+    private final Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Set<String> employees = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicInteger withoutToken = new AtomicInteger();
+
+    private LoadDriver(String url, String username, String password, String api) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.employeesPath = "v1".equals(api) ? "/employees" : "/" + api + "/employees";
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, Collections.synchronizedList(new ArrayList<>()));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        int users = Integer.parseInt(options.getOrDefault("users", "200"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "60s").toUpperCase());
+        String label = options.getOrDefault("label", "run");
+        List<Summary> summaries = new ArrayList<>();
+        for (String api : options.getOrDefault("api", "v1").split(",")) {
+            LoadDriver driver = new LoadDriver(options.getOrDefault("url", "http://localhost:8080"),
+                    options.get("username"), options.get("password"), api.trim());
+            summaries.add(driver.run(users, duration, label + " " + api.trim()));
+        }
+        if (summaries.size() > 1) {
+            System.out.printf("%n== side by side ==%n");
+            System.out.printf("%-16s %10s %10s %8s %10s %10s%n", "run", "requests", "req/s", "errors", "p50 ms", "p99 ms");
+            for (Summary summary : summaries) {
+                System.out.printf("%-16s %10d %10.1f %8d %10.1f %10.1f%n", summary.label(), summary.requests(),
+                        summary.perSecond(), summary.errors(), summary.p50(), summary.p99());
+            }
+        }
+    }
+
+    private Summary run(int users, Duration duration, String label) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(() -> user(deadline));
+            }
+        }
+        return report(label, duration);
+    }
+
+    private void user(long deadline) {
+        String token = login();
+        if (token == null) {
+            withoutToken.incrementAndGet();
+        }
+        while (System.nanoTime() < deadline) {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            Operation operation = Operation.values()[0];
+            for (int i = 0; i < MIX.length; i++) {
+                if (roll < MIX[i]) {
+                    operation = Operation.values()[i];
+                    break;
+                }
+            }
+            if (operation == Operation.LOGIN) {
+                // A refused re-login keeps the previous token, so one 429 does not idle the user.
+                String renewed = login();
+                if (renewed != null && token == null) {
+                    withoutToken.decrementAndGet();
+                }
+                token = renewed != null ? renewed : token;
+            } else if (token != null) {
+                execute(operation, token);
+            }
+        }
+    }
+
+    private String login() {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = send(Operation.LOGIN, post("/auth/login", body).build());
+        try {
+            return response != null && response.statusCode() == 200
+                    ? json.readTree(response.body()).path("data").path("accessToken").asText()
+                    : null;
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private void execute(Operation operation, String token) {
+        String id = anyEmployee();
+        if (id == null && operation != Operation.PAGE) {
+            operation = Operation.CREATE;
+        }
+        String bearer = "Bearer " + token;
+        HttpRequest request = switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(url + employeesPath + "/" + id))
+                    .header("Authorization", bearer).build();
+            case PAGE -> HttpRequest.newBuilder(URI.create(url + employeesPath + "?limit=50")).build();
+            case CREATE -> post(employeesPath, newEmployee()).header("Authorization", bearer).build();
+            case PATCH -> HttpRequest.newBuilder(URI.create(url + employeesPath + "/" + id))
+                    .header("Authorization", bearer)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"salary\":" + ThreadLocalRandom.current().nextInt(1_000, 20_000) + "}"))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(url + employeesPath + "/" + id))
+                    .header("Authorization", bearer).DELETE().build();
+            case LOGIN -> throw new IllegalStateException();
+        };
+        HttpResponse<String> response = send(operation, request);
+        if (response == null || response.statusCode() >= 300) {
+            return;
+        }
+        if (operation == Operation.CREATE) {
+            try {
+                JsonNode data = json.readTree(response.body()).path("data");
+                employees.add(data.path("id").asText());
+            } catch (Exception ignored) {
+                // Counted as a success; the row just won't be reused.
+            }
+        } else if (operation == Operation.DELETE) {
+            employees.remove(id);
+        }
+    }
+
+    private HttpResponse<String> send(Operation operation, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies.get(operation).add(System.nanoTime() - start);
+            if (response.statusCode() >= 400) {
+                errors.get(operation).increment();
+            }
+            return response;
+        } catch (Exception ex) {
+            errors.get(operation).increment();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(url + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private String anyEmployee() {
+        int size = employees.size();
+        if (size == 0) {
+            return null;
+        }
+        int skip = ThreadLocalRandom.current().nextInt(size);
+        return employees.stream().skip(skip).findFirst().orElse(null);
+    }
+
+    private String newEmployee() {
+        int n = sequence.incrementAndGet();
+        long unique = System.nanoTime() % 1_000_000_000L;
+        return """
+                {"firstName":"Load","lastName":"User%d","email":"load%d.%d@example.com","phoneNumber":"+1%010d",\
+                "position":"%s","salary":%d,"hireDate":"2022-01-01"}"""
+                .formatted(n, n, unique, unique + n, n % 2 == 0 ? "Engineer" : "Analyst", 5_000 + n % 5_000);
+    }
+
+    private Summary report(String label, Duration duration) {
+        System.out.printf("%n== %s (%ds) ==%n", label, duration.toSeconds());
+        System.out.printf("%-8s %10s %10s %8s %10s %10s %10s%n", "op", "requests", "req/s", "errors", "p50 ms", "p99 ms", "max ms");
+        List<Long> all = new ArrayList<>();
+        long failed = 0;
+        for (Operation operation : Operation.values()) {
+            List<Long> samples = new ArrayList<>(latencies.get(operation));
+            Collections.sort(samples);
+            all.addAll(samples);
+            failed += errors.get(operation).sum();
+            System.out.printf("%-8s %10d %10.1f %8d %10.1f %10.1f %10.1f%n", operation, samples.size(),
+                    samples.size() / (double) duration.toSeconds(), errors.get(operation).sum(),
+                    millis(samples, 0.5), millis(samples, 0.99), millis(samples, 1.0));
+        }
+        Collections.sort(all);
+        double perSecond = all.size() / (double) duration.toSeconds();
+        System.out.printf("%-8s %10d %10.1f%n", "total", all.size(), perSecond);
+        if (withoutToken.get() > 0) {
+            System.out.printf("WARNING: %d users ended without a token (login refused, e.g. 429); raise "
+                    + "app.security.login-rate-limit.*.capacity for benchmark runs%n", withoutToken.get());
+        }
+        return new Summary(label, all.size(), perSecond, failed, millis(all, 0.5), millis(all, 0.99));
+    }
+
+    private static double millis(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
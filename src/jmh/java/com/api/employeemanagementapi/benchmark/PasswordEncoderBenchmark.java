@@ -0,0 +1,41 @@
+package com.api.employeemanagementapi.benchmark;
+
+import com.api.employeemanagementapi.config.PasswordHashingProperties;
+import com.api.employeemanagementapi.config.SecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password verification as run by {@code AuthService.authenticate}, through the delegating encoder
+ * declared in {@code SecurityConfig}. Compare encoders and BCrypt strengths before changing
+ * {@code app.security.password.*}; {@code strength} only applies to {@code bcrypt}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"bcrypt", "pbkdf2"})
+    public String encoderId;
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new SecurityConfig().passwordEncoder(new PasswordHashingProperties(encoderId, strength, 0, 0));
+        hash = encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("correct horse battery staple", hash);
+    }
+}
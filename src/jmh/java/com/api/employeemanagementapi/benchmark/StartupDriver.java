@@ -0,0 +1,134 @@
+package com.api.employeemanagementapi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts each packaged build of the application cold, polls {@code GET /employees} until it answers
+ * 200, and reports that time (from process launch) and the process RSS at that moment. The builds
+ * must exist and the database must be reachable with the same settings the app would use:
+ * <pre>
+ * ./mvnw -Paot,cds package -DskipTests          # jar, AOT-processed, plus target/cds/application.jsa
+ * ./mvnw -Pnative native:compile -DskipTests    # target/product-management-api (GraalVM)
+ * ./mvnw -Pbenchmark test-compile exec:exec@startup -Dstartup.args="modes=jvm,aot-cds,native runs=5"
+ * </pre>
+ * Mode {@code jvm} runs the plain jar, {@code aot-cds} the extracted jar with the AOT context and the
+ * CDS archive, {@code native} the native executable. RSS is read from {@code /proc}, so Linux only.
+ */
+public final class StartupDriver {
+    record Sample(long millis, long rssKb) {}
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final Map<String, String> options;
+    private final int port;
+    private final Duration timeout;
+
+    private StartupDriver(Map<String, String> options) {
+        this.options = options;
+        this.port = Integer.parseInt(options.getOrDefault("port", "8080"));
+        this.timeout = Duration.parse("PT" + options.getOrDefault("timeout", "120s").toUpperCase());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        StartupDriver driver = new StartupDriver(options);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        System.out.printf("%n== time to first GET /employees, %d runs each ==%n", runs);
+        System.out.printf("%-8s %12s %12s %12s %12s%n", "mode", "median ms", "min ms", "max ms", "median RSS MB");
+        for (String mode : options.getOrDefault("modes", "jvm").split(",")) {
+            List<String> command = driver.command(mode.trim());
+            if (command == null) {
+                System.out.printf("%-8s %12s%n", mode.trim(), "not built");
+                continue;
+            }
+            List<Sample> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(driver.measure(command));
+            }
+            report(mode.trim(), samples);
+        }
+    }
+
+    private List<String> command(String mode) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path jar = Path.of(options.getOrDefault("jar", "target/product-management-api-0.0.1-SNAPSHOT.jar"));
+        Path cds = Path.of(options.getOrDefault("cds", "target/cds"));
+        Path executable = Path.of(options.getOrDefault("native", "target/product-management-api"));
+        String portArg = "--server.port=" + port;
+        return switch (mode) {
+            case "jvm" -> Files.isRegularFile(jar) ? List.of(java, "-jar", jar.toString(), portArg) : null;
+            case "aot-cds" -> Files.isRegularFile(cds.resolve("application.jsa"))
+                    ? List.of(java, "-XX:SharedArchiveFile=" + cds.resolve("application.jsa"), "-Dspring.aot.enabled=true",
+                            "-jar", cds.resolve(jar.getFileName()).toString(), portArg)
+                    : null;
+            case "native" -> Files.isExecutable(executable) ? List.of(executable.toString(), portArg) : null;
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + " (jvm, aot-cds, native)");
+        };
+    }
+
+    private Sample measure(List<String> command) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/employees?limit=1"))
+                .timeout(Duration.ofSeconds(5)).build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < timeout.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(String.join(" ", command) + " exited with " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        return new Sample(millis, rssKb(process.pid()));
+                    }
+                } catch (IOException notListeningYet) {
+                    // Keep polling until the port opens.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(String.join(" ", command) + " did not answer within " + timeout);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static void report(String mode, List<Sample> samples) {
+        List<Long> millis = new ArrayList<>(samples.stream().map(Sample::millis).toList());
+        List<Long> rss = new ArrayList<>(samples.stream().map(Sample::rssKb).toList());
+        Collections.sort(millis);
+        Collections.sort(rss);
+        System.out.printf("%-8s %12d %12d %12d %12.1f%n", mode, millis.get(millis.size() / 2), millis.getFirst(),
+                millis.getLast(), rss.get(rss.size() / 2) / 1024.0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.benchmark.EmployeeFixtures;
+import com.api.employeemanagementapi.entity.Employee;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeServiceImpl#validateEmployee} in isolation; lives in the service package to reach it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeValidationBenchmark {
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        employee = EmployeeFixtures.employee(1);
+    }
+
+    @Benchmark
+    public Employee validateEmployee() {
+        EmployeeServiceImpl.validateEmployee(employee);
+        return employee;
+    }
+}
@@ -0,0 +1,40 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The cache advice runs ahead of the transaction advice so that a hit never opens a transaction
+ * and a {@code @CachePut} only sees values that have already been committed. Annotated caching
+ * goes through {@link TenantScopedCache} views, keyed by tenant as well as by the annotation's key.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class CacheConfig implements CachingConfigurer {
+    public static final String EMPLOYEES = "employees";
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final Map<String, Cache> scoped = new ConcurrentHashMap<>();
+
+    public CacheConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return context -> context.getOperation().getCacheNames().stream()
+                .map(name -> scoped.computeIfAbsent(name,
+                        key -> new TenantScopedCache(cacheManager.getObject().getCache(key))))
+                .toList();
+    }
+}
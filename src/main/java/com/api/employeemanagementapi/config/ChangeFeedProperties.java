@@ -0,0 +1,7 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties("app.employees.changes")
+public record ChangeFeedProperties(Duration retention, Duration streamTimeout, Duration heartbeat) {}
@@ -0,0 +1,47 @@
+package com.api.employeemanagementapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@link DataSource} in a {@link BulkheadDataSource}. Set
+ * {@code app.datasource.bulkhead.enabled=false} to talk to the pool directly.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(name = "app.datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+    static final int POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(ObjectProvider<BulkheadProperties> properties,
+                                                                    ObjectProvider<MeterRegistry> registry) {
+        return new BulkheadPostProcessor(properties, registry);
+    }
+
+    private record BulkheadPostProcessor(ObjectProvider<BulkheadProperties> properties,
+                                         ObjectProvider<MeterRegistry> registry) implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                BulkheadProperties bulkhead = properties.getObject();
+                return new BulkheadDataSource(dataSource, bulkhead.maxConcurrent(), bulkhead.acquireTimeout(),
+                        registry.getIfAvailable(() -> Metrics.globalRegistry));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+    }
+}
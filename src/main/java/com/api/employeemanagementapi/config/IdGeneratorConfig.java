@@ -0,0 +1,19 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.service.IdGenerator;
+import com.api.employeemanagementapi.service.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+    @Bean
+    public IdGenerator idGenerator(@Value("${app.ids.uuid-version:7}") int version) {
+        return switch (version) {
+            case 7 -> new UuidV7Generator();
+            case 4 -> IdGenerator.random();
+            default -> throw new IllegalArgumentException("app.ids.uuid-version must be 4 or 7, got " + version);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Responses are replayed for {@code ttl} after the first request, for at most {@code maxEntries}
+ * keys. A duplicate that arrives while the first request is still running waits up to
+ * {@code waitTimeout} for it.
+ */
+@ConfigurationProperties("app.idempotency")
+public record IdempotencyProperties(Duration ttl, long maxEntries, Duration waitTimeout) {}
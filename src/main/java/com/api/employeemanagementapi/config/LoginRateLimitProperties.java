@@ -0,0 +1,12 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties("app.security.login-rate-limit")
+public record LoginRateLimitProperties(Bucket username, Bucket ip, int maxBuckets) {
+    /**
+     * Allows bursts of {@code capacity} attempts, refilled at {@code capacity} per {@code period}.
+     */
+    public record Bucket(int capacity, Duration period) {}
+}
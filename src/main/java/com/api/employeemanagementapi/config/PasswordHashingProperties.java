@@ -0,0 +1,11 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code encoder} names the algorithm for new hashes ({@code bcrypt} or {@code pbkdf2});
+ * {@code hashingThreads} of 0 means one per available processor.
+ */
+@ConfigurationProperties("app.security.password")
+public record PasswordHashingProperties(String encoder, int bcryptStrength, int hashingThreads,
+                                        int hashingQueueCapacity) {}
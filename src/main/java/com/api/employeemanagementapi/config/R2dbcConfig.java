@@ -0,0 +1,56 @@
+package com.api.employeemanagementapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Non-blocking database access for the {@code /v2} API. The pool is kept out of the context on
+ * purpose: Spring Boot skips the JDBC DataSource when it finds an R2DBC {@code ConnectionFactory}
+ * bean, and a second {@code TransactionManager} bean would make every {@code @Transactional} on
+ * the JPA side ambiguous. So v2 goes through this {@link DatabaseClient} and demarcates its
+ * transactions with the {@link TransactionalOperator}, and R2DBC auto-configuration is excluded.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveDataSourceProperties.class)
+public class R2dbcConfig {
+    private final ConnectionPool pool;
+
+    public R2dbcConfig(ReactiveDataSourceProperties properties, MeterRegistry meters) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("r2dbc")
+                .maxSize(properties.maxSize())
+                .build());
+        new ConnectionPoolMetrics(pool, "r2dbc", Tags.empty()).bindTo(meters);
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactions() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(pool));
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,9 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * R2DBC pool behind the {@code /v2} API, separate from the JDBC pool the rest of the app uses.
+ */
+@ConfigurationProperties("app.datasource.r2dbc")
+public record ReactiveDataSourceProperties(String url, String username, String password, int maxSize) {}
@@ -0,0 +1,60 @@
+package com.api.employeemanagementapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes, so it sees its own
+ * changes even while the replicas lag. Clients are told apart by authenticated user, or by IP for
+ * anonymous requests. The window is tracked per instance, so it holds with sticky load balancing.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = client(request);
+        boolean pinned = recentWriters.getIfPresent(client) != null;
+        if (pinned) {
+            ReplicaRoutingDataSource.pin();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReplicaRoutingDataSource.unpin();
+            }
+        }
+        if (isWrite(request) && response.getStatus() < 400) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static String client(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,13 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Replica JDBC urls share the primary's driver and the credentials given here. After a client
+ * writes, its reads stay on the primary for {@code readYourWrites}; zero turns that off.
+ */
+@ConfigurationProperties("app.datasource.replicas")
+public record ReplicaProperties(boolean enabled, List<String> urls, String username, String password,
+                                int maximumPoolSize, Duration readYourWrites) {}
@@ -0,0 +1,84 @@
+package com.api.employeemanagementapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single pool with a primary pool plus one read-only pool per
+ * {@code app.datasource.replicas.urls} entry, routed by {@link ReplicaRoutingDataSource}. The primary
+ * keeps the {@code spring.datasource.*} settings; Hikari metrics are tagged with the pool name.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    @Bean
+    public DataSource dataSource(DataSourceProperties primaryProperties, ReplicaProperties replicas,
+                                 Environment environment, ObjectProvider<MeterRegistry> registry) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for (String url : replicas.urls()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primaryProperties.determineDriverClassName())
+                    .url(url)
+                    .username(replicas.username())
+                    .password(replicas.password())
+                    .build();
+            replica.setPoolName("replica-" + (replicaPools.size() + 1));
+            replica.setMaximumPoolSize(replicas.maximumPoolSize());
+            replica.setReadOnly(true);
+            replicaPools.add(replica);
+        }
+        registry.ifAvailable(meters -> {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters));
+            replicaPools.forEach(replica -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters)));
+        });
+        return new RoutingConnectionProxy(new ReplicaRoutingDataSource(primary, replicaPools));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replicas) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(replicas.readYourWrites()));
+        registration.setEnabled(!replicas.readYourWrites().isZero());
+        return registration;
+    }
+
+    /**
+     * Hands out connection proxies that pick a pool on first use, once the transaction's read-only
+     * flag is known, and closes the pools on shutdown.
+     */
+    private static final class RoutingConnectionProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        private final ReplicaRoutingDataSource routing;
+
+        RoutingConnectionProxy(ReplicaRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() throws Exception {
+            routing.close();
+        }
+    }
+}
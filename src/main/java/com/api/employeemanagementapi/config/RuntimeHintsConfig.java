@@ -0,0 +1,63 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.dtos.EmployeeBulkDelete;
+import com.api.employeemanagementapi.dtos.EmployeeBulkResult;
+import com.api.employeemanagementapi.dtos.EmployeeBulkUpdate;
+import com.api.employeemanagementapi.dtos.EmployeeChangePage;
+import com.api.employeemanagementapi.dtos.EmployeeCreate;
+import com.api.employeemanagementapi.dtos.EmployeeCursor;
+import com.api.employeemanagementapi.dtos.EmployeeImportReport;
+import com.api.employeemanagementapi.dtos.EmployeeImportResult;
+import com.api.employeemanagementapi.dtos.EmployeePage;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.dtos.EmployeeSearchCriteria;
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import com.api.employeemanagementapi.dtos.EmployeeUpdate;
+import com.api.employeemanagementapi.dtos.LoginResponse;
+import com.api.employeemanagementapi.dtos.ManagerChange;
+import com.api.employeemanagementapi.dtos.OrgChartCursor;
+import com.api.employeemanagementapi.dtos.SignupRequest;
+import com.api.employeemanagementapi.dtos.SignupResponse;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import com.api.employeemanagementapi.entity.UserAccount;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import java.util.List;
+
+/**
+ * Reflection metadata for AOT and native builds. Controller signatures are inferred by Spring, but
+ * entities and DTOs are also written with the {@code ObjectMapper} directly (list cache, export,
+ * change feed, idempotency fingerprints) and bound from request parameters, which it cannot see.
+ * Entities get their Lombok accessors and no-arg constructors registered for Hibernate as well.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(RuntimeHintsConfig.Hints.class)
+public class RuntimeHintsConfig {
+    static final List<Class<?>> ENTITIES = List.of(Employee.class, EmployeeChange.class, UserAccount.class);
+
+    static final List<Class<?>> JSON_TYPES = List.of(GlobalResponse.class, Employee.class,
+            EmployeeBulkDelete.class, EmployeeBulkResult.class, EmployeeBulkUpdate.class, EmployeeChangePage.class,
+            EmployeeCreate.class, EmployeeCursor.class, EmployeeImportReport.class, EmployeeImportResult.class,
+            EmployeePage.class, EmployeePatch.class, EmployeeSearchCriteria.class, EmployeeStats.class,
+            EmployeeUpdate.class, LoginResponse.class, ManagerChange.class, OrgChartCursor.class, SignupRequest.class,
+            SignupResponse.class);
+
+    static class Hints implements RuntimeHintsRegistrar {
+        private final BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            bindings.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+        }
+    }
+}
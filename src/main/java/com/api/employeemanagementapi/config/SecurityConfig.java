@@ -1,26 +1,121 @@
 package com.api.employeemanagementapi.config;
 
+import com.api.employeemanagementapi.service.TokenDenylist;
+import com.api.employeemanagementapi.service.TokenService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({TokenProperties.class, LoginRateLimitProperties.class, PasswordHashingProperties.class})
 public class SecurityConfig {
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Bean
     public org.springframework.security.web.SecurityFilterChain securityFilterChain(org.springframework.security.config.annotation.web.builders.HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(auth -> auth.requestMatchers("/employees","/auth/signup").permitAll()
-
-                 );
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.PATCH, "/employees").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/employees").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/employees/*/reports/reassign").hasRole("ADMIN")
+                        .requestMatchers("/employees","/v2/employees","/auth/signup","/auth/login").permitAll()
+                        .requestMatchers("/actuator/health", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .anyRequest().authenticated()
+                 )
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())));
 
         return http.build();
     }
+
+    /**
+     * The HS256 key from {@code app.security.token.secret}. Without one, a random key is generated
+     * for this process only: tokens then stop verifying after a restart and on other instances.
+     */
+    @Bean
+    public SecretKey tokenKey(TokenProperties properties) {
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            log.warn("app.security.token.secret (APP_TOKEN_SECRET) is not set; signing tokens with a random key "
+                    + "that is lost on restart and not shared with other instances");
+            byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            return new SecretKeySpec(key, "HmacSHA256");
+        }
+        byte[] key = Base64.getDecoder().decode(properties.secret());
+        if (key.length < 32) {
+            throw new IllegalStateException("app.security.token.secret must be at least 256 bits");
+        }
+        return new SecretKeySpec(key, "HmacSHA256");
+    }
+
     @Bean
-    public org.springframework.security.crypto.password.PasswordEncoder passwordEncoder() {
-        return new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
+    public JwtEncoder jwtEncoder(SecretKey tokenKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenKey));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenKey, TokenProperties properties, TokenDenylist denylist) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(tokenKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(properties.issuer()), denylist));
+        return decoder;
+    }
+
+    /**
+     * Encodes new hashes as {@code {<encoder>}...} and still verifies every listed algorithm, so
+     * switching {@code app.security.password.encoder} or raising the BCrypt strength needs no reset:
+     * {@code upgradeEncoding} flags the old hashes and they are replaced on the next login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", new BCryptPasswordEncoder(properties.bcryptStrength()),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(properties.encoder(), encoders);
+        // Hashes stored before the prefix was introduced are plain BCrypt.
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    private static JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName(TokenService.ROLE_CLAIM);
+        authorities.setAuthorityPrefix("ROLE_");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        converter.setPrincipalClaimName(TokenService.USERNAME_CLAIM);
+        return converter;
     }
 }
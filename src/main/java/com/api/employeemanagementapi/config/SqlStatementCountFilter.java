@@ -0,0 +1,63 @@
+package com.api.employeemanagementapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each request ran, per endpoint, as
+ * {@code http.server.requests.sql.statements}, and logs a warning naming the most repeated
+ * statement when a request goes over {@code app.jpa.statement-warn-threshold}.
+ */
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(MeterRegistry registry, @Value("${app.jpa.statement-warn-threshold:20}") int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(request, SqlStatementCounter.stop());
+        }
+    }
+
+    private void record(HttpServletRequest request, Map<String, Integer> statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int total = statements.values().stream().mapToInt(Integer::intValue).sum();
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(total);
+        if (total > warnThreshold) {
+            statements.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .ifPresent(top -> log.warn("{} {} ran {} SQL statements (threshold {}); most repeated ({}x): {}",
+                            request.getMethod(), uri, total, warnThreshold, top.getValue(), top.getKey()));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.employeemanagementapi.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tallies the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}, keyed by statement text so repeated shapes (N+1 loads) stand out.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<Map<String, Integer>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    static void start() {
+        STATEMENTS.set(new HashMap<>());
+    }
+
+    static Map<String, Integer> stop() {
+        Map<String, Integer> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : Map.of();
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request-scoped tenant resolution, its hand-over to the application task executor (streamed
+ * responses run there), and the per-tenant pools of {@code app.tenancy.dedicated}.
+ */
+@Configuration
+@EnableConfigurationProperties(TenantProperties.class)
+public class TenantConfig {
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<TenantFilter> registration = new FilterRegistrationBean<>(new TenantFilter(objectMapper));
+        // Right behind Spring Security, which has authenticated the token by then.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return registration;
+    }
+
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return task -> {
+            String tenant = TenantContext.current();
+            return () -> TenantContext.run(tenant, task);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor tenantDataSourcePostProcessor(ObjectProvider<TenantProperties> tenants,
+                                                                  ObjectProvider<DataSourceProperties> dataSource,
+                                                                  ObjectProvider<MeterRegistry> registry) {
+        return new TenantDataSourcePostProcessor(tenants, dataSource, registry);
+    }
+
+    /**
+     * Puts a {@link TenantRoutingDataSource} in front of the application's {@link DataSource} when
+     * dedicated tenants are configured. It runs after the bulkhead's post-processor, so dedicated
+     * pools are bounded by their own size rather than competing for the shared permits.
+     */
+    private static final class TenantDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<TenantProperties> tenants;
+        private final ObjectProvider<DataSourceProperties> dataSource;
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private TenantDataSourcePostProcessor(ObjectProvider<TenantProperties> tenants,
+                                              ObjectProvider<DataSourceProperties> dataSource,
+                                              ObjectProvider<MeterRegistry> registry) {
+            this.tenants = tenants;
+            this.dataSource = dataSource;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource shared) || bean instanceof TenantRoutingDataSource) {
+                return bean;
+            }
+            Map<String, TenantProperties.Dedicated> dedicated = tenants.getObject().dedicated();
+            if (dedicated.isEmpty()) {
+                return bean;
+            }
+            Map<String, DataSource> pools = new HashMap<>();
+            dedicated.forEach((tenant, settings) -> pools.put(tenant, pool(tenant, settings)));
+            return new TenantRoutingDataSource(shared, pools);
+        }
+
+        @Override
+        public int getOrder() {
+            return DataSourceBulkheadConfig.POST_PROCESSOR_ORDER + 1;
+        }
+
+        private HikariDataSource pool(String tenant, TenantProperties.Dedicated settings) {
+            HikariDataSource pool = dataSource.getObject().initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            pool.setPoolName("tenant-" + tenant);
+            pool.setMaximumPoolSize(settings.maximumPoolSize());
+            // The shared tables (the change feed and its sequence) stay in public.
+            pool.addDataSourceProperty("currentSchema", settings.schema() + ",public");
+            registry.ifAvailable(meters -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters)));
+            return pool;
+        }
+    }
+}
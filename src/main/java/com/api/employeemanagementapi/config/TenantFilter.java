@@ -0,0 +1,95 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.service.TokenService;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sets the request's tenant for everything downstream. An authenticated caller works in the tenant
+ * named by its token (tokens issued before tenants existed belong to {@link TenantContext#DEFAULT}).
+ * Anonymous callers work in the default tenant; only login and signup, which have no token yet,
+ * may name another with {@value TenantContext#HEADER}. A header the caller is not entitled to is refused
+ * with 403. Runs after Spring Security, and again on async dispatches, which reuse the tenant
+ * resolved for the original request.
+ */
+public class TenantFilter extends OncePerRequestFilter {
+    private static final String ATTRIBUTE = TenantFilter.class.getName() + ".tenant";
+    private static final Set<String> TENANT_HEADER_PATHS = Set.of("/auth/login", "/auth/signup");
+
+    private final ObjectMapper objectMapper;
+
+    public TenantFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String tenant = (String) request.getAttribute(ATTRIBUTE);
+        if (tenant == null) {
+            String requested = request.getHeader(TenantContext.HEADER);
+            if (requested != null && !TenantContext.isValid(requested)) {
+                reject(response, HttpStatus.BAD_REQUEST, TenantContext.HEADER + " must be 1-" + TenantContext.MAX_LENGTH
+                        + " lower-case letters, digits, '-' or '_'");
+                return;
+            }
+            String claimed = claimedTenant(request);
+            if (claimed != null) {
+                tenant = claimed;
+            } else if (requested != null && TENANT_HEADER_PATHS.contains(path(request))) {
+                tenant = requested;
+            } else {
+                tenant = TenantContext.DEFAULT;
+            }
+            if (requested != null && !requested.equals(tenant)) {
+                reject(response, HttpStatus.FORBIDDEN, claimed != null
+                        ? "Token does not belong to tenant " + requested
+                        : "Tenant " + requested + " requires an access token");
+                return;
+            }
+            request.setAttribute(ATTRIBUTE, tenant);
+        }
+        TenantContext.set(tenant);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String claimedTenant(HttpServletRequest request) {
+        if (request.getUserPrincipal() instanceof JwtAuthenticationToken authentication) {
+            String tenant = authentication.getToken().getClaimAsString(TokenService.TENANT_CLAIM);
+            return tenant != null ? tenant : TenantContext.DEFAULT;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new GlobalResponse<>(List.of(new GlobalResponse.ErrorItem(message))));
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Gives every Hibernate session the current thread's tenant, which Hibernate then adds to every
+ * query, load and bulk statement on {@code @TenantId} entities and writes into new rows.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean isRoot(String tenant) {
+        return TenantContext.ROOT.equals(tenant);
+    }
+}
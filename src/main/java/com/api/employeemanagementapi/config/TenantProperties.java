@@ -0,0 +1,39 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Tenants listed under {@code dedicated} keep their {@code employees} and {@code user_accounts}
+ * tables in their own schema and get their own connection pool of {@code maximumPoolSize}; all other
+ * tenants share the default schema and pool.
+ */
+@ConfigurationProperties("app.tenancy")
+public record TenantProperties(Map<String, Dedicated> dedicated) {
+    private static final Pattern SCHEMA = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    public record Dedicated(String schema, int maximumPoolSize) {
+        public Dedicated {
+            maximumPoolSize = maximumPoolSize > 0 ? maximumPoolSize : 10;
+        }
+    }
+
+    public TenantProperties {
+        dedicated = dedicated == null ? Map.of() : Map.copyOf(dedicated);
+        dedicated.forEach((tenant, settings) -> {
+            if (settings.schema() == null || !SCHEMA.matcher(settings.schema()).matches()) {
+                throw new IllegalArgumentException("app.tenancy.dedicated." + tenant + ".schema must be a plain "
+                        + "lower-case identifier");
+            }
+        });
+    }
+
+    /**
+     * Returns the schema holding {@code tenant}'s tables, or {@code null} for the default schema.
+     */
+    public String schemaOf(String tenant) {
+        Dedicated settings = dedicated.get(tenant);
+        return settings != null ? settings.schema() : null;
+    }
+}
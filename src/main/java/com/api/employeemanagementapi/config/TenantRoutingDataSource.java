@@ -0,0 +1,40 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands dedicated tenants connections from their own pool and everyone else, including
+ * {@link TenantContext#ROOT}, connections from the shared one. The tenant is known before the
+ * transaction starts, so no lazy proxy is needed here.
+ */
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final List<DataSource> pools = new ArrayList<>();
+
+    public TenantRoutingDataSource(DataSource shared, Map<String, ? extends DataSource> dedicated) {
+        pools.add(shared);
+        pools.addAll(dedicated.values());
+        setTargetDataSources(new HashMap<>(dedicated));
+        setDefaultTargetDataSource(shared);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : pools) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.cache.Cache;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A view of a shared cache in which every key belongs to the current tenant, so one tenant can never
+ * be answered from another's entries. {@link #clear()} still empties the whole cache.
+ */
+public class TenantScopedCache implements Cache {
+    private record TenantKey(String tenant, Object key) {}
+
+    private final Cache delegate;
+
+    public TenantScopedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * The key under which {@code tenant}'s entry for {@code key} is stored in the shared cache, for
+     * callers that write the cache from threads without a tenant.
+     */
+    public static Object key(String tenant, Object key) {
+        return new TenantKey(tenant, key);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(scoped(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(scoped(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(scoped(key), valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(scoped(key));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(scoped(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(scoped(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(scoped(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(scoped(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(scoped(key));
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private static Object scoped(Object key) {
+        return key(TenantContext.current(), key);
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.employeemanagementapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties("app.security.token")
+public record TokenProperties(String secret, Duration ttl, String issuer, int denylistCapacity) {}
@@ -1,12 +1,21 @@
 package com.api.employeemanagementapi.controller;
 
 import com.api.employeemanagementapi.dtos.SignupRequest;
+import com.api.employeemanagementapi.dtos.SignupResponse;
+import com.api.employeemanagementapi.entity.UserAccount;
 import com.api.employeemanagementapi.service.AuthService;
+import com.api.employeemanagementapi.service.EmployeeService;
+import com.api.employeemanagementapi.service.IdempotencyStore;
+import com.api.employeemanagementapi.service.LoginRateLimiter;
+import com.api.employeemanagementapi.service.TokenService;
 import com.api.employeemanagementapi.service.UserAccountService;
 import com.api.employeemanagementapi.shared.GlobalResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Map;
 
@@ -15,20 +24,43 @@ import java.util.Map;
 public class AuthController {
     private final AuthService authService;
     private final UserAccountService userAccountService;
+    private final TokenService tokenService;
+    private final LoginRateLimiter rateLimiter;
+    private final EmployeeService employeeService;
+    private final IdempotencyStore idempotency;
 
-    public AuthController(AuthService authService, UserAccountService userAccountService) {
+    public AuthController(AuthService authService, UserAccountService userAccountService, TokenService tokenService,
+                          LoginRateLimiter rateLimiter, EmployeeService employeeService, IdempotencyStore idempotency) {
         this.authService = authService;
         this.userAccountService = userAccountService;
+        this.tokenService = tokenService;
+        this.rateLimiter = rateLimiter;
+        this.employeeService = employeeService;
+        this.idempotency = idempotency;
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<GlobalResponse<String>> signup(@Valid @RequestBody SignupRequest signupRequest) {
-        // Will be implemented when user registration flow is ready
-        return new ResponseEntity<>(new GlobalResponse<>("signed up"), HttpStatus.OK);
+    public ResponseEntity<GlobalResponse<SignupResponse>> signup(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                                 @Valid @RequestBody SignupRequest signupRequest) {
+        IdempotencyStore.Outcome<SignupResponse> created = idempotency.execute(
+                IdempotencyStore.scope("users.create", null), idempotencyKey, signupRequest, () -> {
+                    UserAccount account = new UserAccount();
+                    account.setUsername(signupRequest.username());
+                    account.setPassword(signupRequest.password());
+                    return SignupResponse.of(userAccountService.createUser(account,
+                            employeeService.get(signupRequest.employeeId())));
+                });
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (created.replayed()) {
+            response.header(IdempotencyStore.REPLAYED_HEADER, "true");
+        }
+        return response.body(GlobalResponse.success(created.value()));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<GlobalResponse<String>> login(@RequestBody Map<String, String> loginRequest) {
+    public ResponseEntity<GlobalResponse<?>> login(@RequestBody Map<String, String> loginRequest,
+                                                   HttpServletRequest request) {
         String username = loginRequest.get("username");
         String password = loginRequest.get("password");
 
@@ -37,12 +69,20 @@ public class AuthController {
                 HttpStatus.BAD_REQUEST);
         }
 
-        boolean isAuthenticated = authService.authenticate(username, password);
-        if (!isAuthenticated) {
+        rateLimiter.acquire(username, request.getRemoteAddr());
+
+        UserAccount user = authService.authenticate(username, password);
+        if (user == null) {
             return new ResponseEntity<>(new GlobalResponse<>("Invalid credentials"),
                 HttpStatus.UNAUTHORIZED);
         }
 
-        return new ResponseEntity<>(new GlobalResponse<>("logged in"), HttpStatus.OK);
+        return new ResponseEntity<>(new GlobalResponse<>(tokenService.issue(user)), HttpStatus.OK);
+    }
+
+    @PostMapping("/logout")
+    public GlobalResponse<Map<String, String>> logout(@AuthenticationPrincipal Jwt token) {
+        tokenService.revoke(token);
+        return GlobalResponse.successMessage("logged out");
     }
 }
@@ -0,0 +1,33 @@
+package com.api.employeemanagementapi.controller;
+
+import com.api.employeemanagementapi.dtos.EmployeeChangePage;
+import com.api.employeemanagementapi.service.EmployeeChangeService;
+import com.api.employeemanagementapi.service.EmployeeChangeStream;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/employees/changes")
+public class EmployeeChangeController {
+    private final EmployeeChangeService changeService;
+    private final EmployeeChangeStream changeStream;
+
+    public EmployeeChangeController(EmployeeChangeService changeService, EmployeeChangeStream changeStream) {
+        this.changeService = changeService;
+        this.changeStream = changeStream;
+    }
+
+    @GetMapping
+    public GlobalResponse<EmployeeChangePage> changes(@RequestParam(defaultValue = "0") long since,
+                                                      @RequestParam(defaultValue = "100") int limit) {
+        return GlobalResponse.success(changeService.changes(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(defaultValue = "0") long since,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeStream.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
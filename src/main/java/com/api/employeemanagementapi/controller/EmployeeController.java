@@ -1,13 +1,43 @@
 package com.api.employeemanagementapi.controller;
 
+import com.api.employeemanagementapi.dtos.EmployeeBulkDelete;
+import com.api.employeemanagementapi.dtos.EmployeeBulkResult;
+import com.api.employeemanagementapi.dtos.EmployeeBulkUpdate;
 import com.api.employeemanagementapi.dtos.EmployeeCreate;
+import com.api.employeemanagementapi.dtos.EmployeeImportReport;
+import com.api.employeemanagementapi.dtos.EmployeePage;
 import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.dtos.EmployeeSearchCriteria;
+import com.api.employeemanagementapi.dtos.EmployeeStats;
 import com.api.employeemanagementapi.dtos.EmployeeUpdate;
+import com.api.employeemanagementapi.dtos.ManagerChange;
 import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.service.EmployeeExportService;
+import com.api.employeemanagementapi.service.EmployeeImportService;
+import com.api.employeemanagementapi.service.EmployeeListCache;
 import com.api.employeemanagementapi.service.EmployeeService;
+import com.api.employeemanagementapi.service.EmployeeStatsService;
+import com.api.employeemanagementapi.service.IdempotencyStore;
+import com.api.employeemanagementapi.shared.ETags;
 import com.api.employeemanagementapi.shared.GlobalResponse;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -15,54 +45,216 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/employees")
 public class EmployeeController {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final String SNAPSHOT_SEQ_HEADER = "X-Snapshot-Seq";
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
 
     private final EmployeeService service;
+    private final EmployeeImportService importService;
+    private final EmployeeStatsService statsService;
+    private final EmployeeExportService exportService;
+    private final ObjectMapper objectMapper;
+    private final EmployeeListCache listCache;
+    private final IdempotencyStore idempotency;
 
-    public EmployeeController(EmployeeService service) {
+    public EmployeeController(EmployeeService service, EmployeeImportService importService,
+                              EmployeeStatsService statsService, EmployeeExportService exportService,
+                              ObjectMapper objectMapper, ObjectProvider<EmployeeListCache> listCache,
+                              IdempotencyStore idempotency) {
         this.service = service;
+        this.importService = importService;
+        this.statsService = statsService;
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.listCache = listCache.getIfAvailable();
+        this.idempotency = idempotency;
     }
 
     @GetMapping
-    public GlobalResponse<List<Employee>> all() {
-        return GlobalResponse.success(service.all());
+    public ResponseEntity<?> all(@RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String fields,
+                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (listCache == null) {
+            return ResponseEntity.ok(list(cursor, limit, fields));
+        }
+        EmployeeListCache.Body body = listCache.get(
+                new EmployeeListCache.Key(TenantContext.current(), cursor, limit, fields),
+                () -> list(cursor, limit, fields));
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.AUTHORIZATION);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip() : body.json());
+    }
+
+    private GlobalResponse<?> list(String cursor, Integer limit, String fields) {
+        if (cursor == null && limit == null) {
+            return GlobalResponse.success(fields == null ? service.all() : service.all(fields));
+        }
+        int size = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        return GlobalResponse.success(fields == null ? service.page(cursor, size) : service.page(cursor, size, fields));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = out -> service.streamAll(employee -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(employee));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        WebRequest request) {
+        EmployeeExportService.Snapshot snapshot = exportService.snapshot(EmployeeExportService.parseFormat(format));
+        String eTag = "\"" + snapshot.filename() + "\"";
+        // Streaming bodies bypass Spring's automatic If-None-Match handling, so check it here.
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(SNAPSHOT_SEQ_HEADER, String.valueOf(snapshot.seq()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(snapshot.filename()).build().toString())
+                .contentType(GZIP)
+                .contentLength(snapshot.size())
+                .body(out -> exportService.transferTo(snapshot, out));
+    }
+
+    @GetMapping("/search")
+    public GlobalResponse<PagedModel<Employee>> search(EmployeeSearchCriteria criteria,
+                                                       @PageableDefault(size = DEFAULT_PAGE_SIZE, sort = {"hireDate", "id"}) Pageable pageable) {
+        return GlobalResponse.success(new PagedModel<>(service.search(criteria, pageable)));
+    }
+
+    @GetMapping("/stats")
+    public GlobalResponse<EmployeeStats> stats(@RequestParam(required = false) String source) {
+        return GlobalResponse.success(statsService.stats(source));
     }
 
     @GetMapping("/{id}")
-    public GlobalResponse<Employee> get(@PathVariable UUID id) {
-        return GlobalResponse.success(service.get(id));
+    public ResponseEntity<GlobalResponse<?>> get(@PathVariable UUID id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> employee = service.get(id, fields);
+            // Only sparse responses that include the version can carry an ETag.
+            Object version = employee.get("version");
+            return version != null
+                    ? ResponseEntity.ok().eTag(ETags.of((Long) version)).body(GlobalResponse.success(employee))
+                    : ResponseEntity.ok().body(GlobalResponse.success(employee));
+        }
+        Employee employee = service.get(id);
+        // A matching If-None-Match is answered with 304 by Spring once the ETag is set.
+        return ResponseEntity.ok().eTag(ETags.of(employee.getVersion())).body(GlobalResponse.success(employee));
+    }
+
+    @GetMapping("/{id}/reports")
+    public GlobalResponse<List<Employee>> reports(@PathVariable UUID id) {
+        return GlobalResponse.success(service.directReports(id));
+    }
+
+    @GetMapping("/{id}/subtree")
+    public GlobalResponse<EmployeePage<Employee>> subtree(@PathVariable UUID id,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit) {
+        return GlobalResponse.success(service.subtree(id, cursor, limit != null ? limit : DEFAULT_PAGE_SIZE));
+    }
+
+    @GetMapping("/{id}/chain")
+    public GlobalResponse<List<Employee>> chain(@PathVariable UUID id) {
+        return GlobalResponse.success(service.managementChain(id));
     }
 
     @PostMapping
-    public GlobalResponse<Employee> create(@Valid @RequestBody EmployeeCreate req) {
-        Employee toSave = req.toEntity();
-        Employee saved = service.create(toSave);
+    public ResponseEntity<GlobalResponse<Employee>> create(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                           @Valid @RequestBody EmployeeCreate req, Principal principal) {
+        IdempotencyStore.Outcome<Employee> saved = idempotency.execute(
+                IdempotencyStore.scope("employees.create", principal), idempotencyKey, req,
+                () -> service.create(req.toEntity()));
 
-        return GlobalResponse.success(saved);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (saved.replayed()) {
+            response.header(IdempotencyStore.REPLAYED_HEADER, "true");
+        }
+        return response.body(GlobalResponse.success(saved.value()));
+    }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public GlobalResponse<EmployeeImportReport> createBatch(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                            InputStream body) {
+        return GlobalResponse.success(importService.importRecords(body, MediaType.parseMediaType(contentType)));
     }
 
     @PutMapping("/{id}")
-    public GlobalResponse<Employee> update(@PathVariable UUID id,
-                                           @Valid @RequestBody EmployeeUpdate req) {
+    public ResponseEntity<GlobalResponse<Employee>> update(@PathVariable UUID id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @Valid @RequestBody EmployeeUpdate req) {
         Employee toUpdate = new Employee();
         req.applyTo(toUpdate);
-        Employee updated = service.update(id, toUpdate);
+        Employee updated = service.update(id, toUpdate, ETags.parseIfMatch(ifMatch));
 
-        return GlobalResponse.success(updated);
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(GlobalResponse.success(updated));
     }
 
     @PatchMapping("/{id}")
-    public GlobalResponse<Employee> patch(@PathVariable UUID id,
-                                          @Valid @RequestBody EmployeePatch req) {
-        Employee existing = service.get(id);
-        req.applyPartially(existing);
-        Employee updated = service.update(id, existing);
+    public ResponseEntity<GlobalResponse<Employee>> patch(@PathVariable UUID id,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                          @Valid @RequestBody EmployeePatch req) {
+        Employee updated = service.patch(id, req, ETags.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(GlobalResponse.success(updated));
+    }
+
+    @PutMapping("/{id}/manager")
+    public ResponseEntity<GlobalResponse<Employee>> changeManager(@PathVariable UUID id,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                  @RequestBody ManagerChange req) {
+        Employee updated = service.changeManager(id, req.managerId(), ETags.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(GlobalResponse.success(updated));
+    }
+
+    @PostMapping("/{id}/reports/reassign")
+    public GlobalResponse<EmployeeBulkResult> reassignReports(@PathVariable UUID id, @RequestBody ManagerChange req) {
+        return GlobalResponse.success(new EmployeeBulkResult(service.reassignReports(id, req.managerId())));
+    }
+
+    @PatchMapping
+    public GlobalResponse<EmployeeBulkResult> updateAll(@Valid @RequestBody EmployeeBulkUpdate req) {
+        return GlobalResponse.success(new EmployeeBulkResult(service.updateAll(req)));
+    }
 
-        return GlobalResponse.success(updated);
+    @DeleteMapping
+    public GlobalResponse<EmployeeBulkResult> deleteAll(@Valid @RequestBody EmployeeBulkDelete req) {
+        return GlobalResponse.success(new EmployeeBulkResult(service.deleteAll(req.ids())));
     }
 
     @DeleteMapping("/{id}")
-    public GlobalResponse<Map<String, String>> delete(@PathVariable UUID id) {
-        service.delete(id);
+    public GlobalResponse<Map<String, String>> delete(@PathVariable UUID id,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, ETags.parseIfMatch(ifMatch));
 
         return GlobalResponse.successMessage("Employee deleted");
     }
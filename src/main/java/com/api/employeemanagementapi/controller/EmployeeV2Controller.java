@@ -0,0 +1,87 @@
+package com.api.employeemanagementapi.controller;
+
+import com.api.employeemanagementapi.dtos.EmployeeCreate;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.dtos.EmployeeUpdate;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.service.ReactiveEmployeeService;
+import com.api.employeemanagementapi.shared.ETags;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@code /employees} on the reactive stack: handlers return as soon as the query is sent and the
+ * request thread is released until R2DBC delivers the result.
+ */
+@RestController
+@RequestMapping("/v2/employees")
+public class EmployeeV2Controller {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final ReactiveEmployeeService service;
+
+    public EmployeeV2Controller(ReactiveEmployeeService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public Mono<GlobalResponse<?>> all(@RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            return service.all().map(GlobalResponse::success);
+        }
+        return service.page(cursor, limit != null ? limit : DEFAULT_PAGE_SIZE).map(GlobalResponse::success);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> stream() {
+        return service.streamAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<GlobalResponse<Employee>>> get(@PathVariable UUID id) {
+        return service.get(id).map(employee -> ResponseEntity.ok()
+                .eTag(ETags.of(employee.getVersion()))
+                .body(GlobalResponse.success(employee)));
+    }
+
+    @PostMapping
+    public Mono<GlobalResponse<Employee>> create(@Valid @RequestBody EmployeeCreate req) {
+        return service.create(req.toEntity()).map(GlobalResponse::success);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<GlobalResponse<Employee>>> update(@PathVariable UUID id,
+                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                 @Valid @RequestBody EmployeeUpdate req) {
+        Employee toUpdate = new Employee();
+        req.applyTo(toUpdate);
+        return service.update(id, toUpdate, ETags.parseIfMatch(ifMatch)).map(EmployeeV2Controller::withETag);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<GlobalResponse<Employee>>> patch(@PathVariable UUID id,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                @Valid @RequestBody EmployeePatch req) {
+        return service.patch(id, req, ETags.parseIfMatch(ifMatch)).map(EmployeeV2Controller::withETag);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<GlobalResponse<Map<String, String>>> delete(@PathVariable UUID id,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.delete(id, ETags.parseIfMatch(ifMatch)).then(Mono.fromSupplier(
+                () -> GlobalResponse.successMessage("Employee deleted")));
+    }
+
+    private static ResponseEntity<GlobalResponse<Employee>> withETag(Employee employee) {
+        return ResponseEntity.ok().eTag(ETags.of(employee.getVersion())).body(GlobalResponse.success(employee));
+    }
+}
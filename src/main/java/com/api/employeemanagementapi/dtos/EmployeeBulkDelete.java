@@ -0,0 +1,16 @@
+package com.api.employeemanagementapi.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record EmployeeBulkDelete(
+
+        @NotEmpty(message = "ids must not be empty")
+        @Size(max = EmployeeBulkDelete.MAX_IDS, message = "ids must have at most " + EmployeeBulkDelete.MAX_IDS + " entries")
+        List<UUID> ids
+
+) {
+    public static final int MAX_IDS = 1000;
+}
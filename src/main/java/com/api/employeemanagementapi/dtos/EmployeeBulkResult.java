@@ -0,0 +1,3 @@
+package com.api.employeemanagementapi.dtos;
+
+public record EmployeeBulkResult(int affected) {}
@@ -0,0 +1,40 @@
+package com.api.employeemanagementapi.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Body of {@code PATCH /employees}. Every non-null {@code filter} component narrows the selection
+ * and at least one is required; every non-null change is applied to all selected employees.
+ */
+public record EmployeeBulkUpdate(
+
+        @NotNull(message = "filter is required")
+        @Valid
+        Filter filter,
+
+        @DecimalMin(value = "-100", message = "salaryChangePercent must be >= -100")
+        @Digits(integer = 4, fraction = 2, message = "salaryChangePercent must have max 4 digits and 2 decimals")
+        BigDecimal salaryChangePercent,
+
+        @Pattern(regexp = ".*\\S.*", message = "newPosition must not be blank")
+        @Size(max = 50, message = "newPosition must be at most 50 characters")
+        String newPosition
+
+) {
+    public record Filter(
+            String position,
+            LocalDate hiredFrom,
+            LocalDate hiredTo,
+            @Size(max = EmployeeBulkDelete.MAX_IDS, message = "ids must have at most " + EmployeeBulkDelete.MAX_IDS + " entries")
+            List<UUID> ids
+    ) {
+        public boolean isEmpty() {
+            return (position == null || position.isBlank()) && hiredFrom == null && hiredTo == null && ids == null;
+        }
+    }
+}
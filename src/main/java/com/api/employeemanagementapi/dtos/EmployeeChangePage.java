@@ -0,0 +1,6 @@
+package com.api.employeemanagementapi.dtos;
+
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import java.util.List;
+
+public record EmployeeChangePage(List<EmployeeChange> items, long nextSince) {}
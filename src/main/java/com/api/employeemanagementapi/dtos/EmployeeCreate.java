@@ -4,6 +4,7 @@ import com.api.employeemanagementapi.entity.Employee;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.UUID;
 
 public record EmployeeCreate(
         @NotBlank(message = "name must not be blank")
@@ -34,7 +35,9 @@ public record EmployeeCreate(
 
         @NotBlank(message = "position must not be blank")
         @Size(max = 50, message = "position must be at most 50 characters")
-        String position
+        String position,
+
+        UUID managerId
 ) {
     public Employee toEntity() {
         Employee p = new Employee();
@@ -45,6 +48,7 @@ public record EmployeeCreate(
         p.setEmail(email);
         p.setPhoneNumber(phoneNumber);
         p.setPosition(position);
+        p.setManagerId(managerId);
         return p;
     }
 }
@@ -0,0 +1,34 @@
+package com.api.employeemanagementapi.dtos;
+
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position over the stable {@code (hire_date, id)} ordering of employees.
+ */
+public record EmployeeCursor(LocalDate hireDate, UUID id) {
+
+    public static EmployeeCursor of(Employee employee) {
+        return new EmployeeCursor(employee.getHireDate(), employee.getId());
+    }
+
+    public String encode() {
+        String raw = hireDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new EmployeeCursor(LocalDate.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw CustomResponseException.BadRequest("Invalid cursor");
+        }
+    }
+}
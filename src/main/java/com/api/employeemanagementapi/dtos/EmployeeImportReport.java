@@ -0,0 +1,11 @@
+package com.api.employeemanagementapi.dtos;
+
+import java.util.List;
+
+public record EmployeeImportReport(int total, int created, int failed, List<EmployeeImportResult> results) {
+
+    public static EmployeeImportReport of(List<EmployeeImportResult> results) {
+        int created = (int) results.stream().filter(r -> r.id() != null).count();
+        return new EmployeeImportReport(results.size(), created, results.size() - created, results);
+    }
+}
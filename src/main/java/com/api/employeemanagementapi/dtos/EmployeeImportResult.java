@@ -0,0 +1,14 @@
+package com.api.employeemanagementapi.dtos;
+
+import java.util.UUID;
+
+public record EmployeeImportResult(long row, String status, UUID id, String message) {
+
+    public static EmployeeImportResult created(long row, UUID id) {
+        return new EmployeeImportResult(row, "created", id, null);
+    }
+
+    public static EmployeeImportResult failed(long row, String message) {
+        return new EmployeeImportResult(row, "failed", null, message);
+    }
+}
@@ -0,0 +1,5 @@
+package com.api.employeemanagementapi.dtos;
+
+import java.util.List;
+
+public record EmployeePage<T>(List<T> items, String nextCursor) {}
@@ -7,22 +7,20 @@ import java.math.BigDecimal;
 
 public record EmployeePatch(
 
-        @NotNull(message = "salary must not be null")
         @PositiveOrZero(message = "salary must be >= 0")
         @Digits(integer = 10, fraction = 2, message = "salary must have max 10 digits and 2 decimals")
         BigDecimal salary,
 
-        @NotBlank(message = "email must not be blank")
+        @Pattern(regexp = ".*\\S.*", message = "email must not be blank")
         @Email(message = "email must be a valid email address")
         @Size(max = 100, message = "email must be at most 100 characters")
         String email,
 
-        @NotBlank(message = "phoneNumber must not be blank")
         @Pattern(regexp = "\\+?[0-9]{7,15}", message = "phoneNumber must be a valid phone number")
         @Size(max = 15, message = "phoneNumber must be at most 15 characters")
         String phoneNumber,
 
-        @NotBlank(message = "position must not be blank")
+        @Pattern(regexp = ".*\\S.*", message = "position must not be blank")
         @Size(max = 50, message = "position must be at most 50 characters")
         String position
 
@@ -0,0 +1,19 @@
+package com.api.employeemanagementapi.dtos;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Optional filters for {@code GET /employees/search}; every non-null component narrows the result.
+ * {@code name} matches a prefix of the first or last name, {@code email} a prefix of the email.
+ */
+public record EmployeeSearchCriteria(
+        String position,
+        BigDecimal minSalary,
+        BigDecimal maxSalary,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+        String name,
+        String email
+) {}
@@ -0,0 +1,11 @@
+package com.api.employeemanagementapi.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record EmployeeStats(String source, List<Group> byPosition, List<Group> byHireYear) {
+
+    public record Group(String key, long headcount, BigDecimal minSalary, BigDecimal maxSalary,
+                        BigDecimal averageSalary, BigDecimal p50Salary, BigDecimal p90Salary,
+                        BigDecimal p99Salary) {}
+}
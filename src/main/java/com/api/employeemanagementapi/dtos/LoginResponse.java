@@ -0,0 +1,3 @@
+package com.api.employeemanagementapi.dtos;
+
+public record LoginResponse(String accessToken, String tokenType, long expiresIn) {}
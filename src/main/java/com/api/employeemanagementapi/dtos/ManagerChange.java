@@ -0,0 +1,8 @@
+package com.api.employeemanagementapi.dtos;
+
+import java.util.UUID;
+
+/**
+ * The new manager for a re-parenting request; {@code null} moves to the top of the organization.
+ */
+public record ManagerChange(UUID managerId) {}
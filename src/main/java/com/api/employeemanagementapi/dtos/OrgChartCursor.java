@@ -0,0 +1,32 @@
+package com.api.employeemanagementapi.dtos;
+
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position over the {@code (org_path, id)} ordering of a subtree.
+ */
+public record OrgChartCursor(String orgPath, UUID id) {
+
+    public static OrgChartCursor of(Employee employee) {
+        return new OrgChartCursor(employee.getOrgPath(), employee.getId());
+    }
+
+    public String encode() {
+        String raw = orgPath + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrgChartCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new OrgChartCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw CustomResponseException.BadRequest("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.api.employeemanagementapi.dtos;
+
+import com.api.employeemanagementapi.entity.UserAccount;
+import java.util.UUID;
+
+public record SignupResponse(UUID id, String username, String role, UUID employeeId) {
+    public static SignupResponse of(UserAccount account) {
+        return new SignupResponse(account.getId(), account.getUsername(), account.getRole(),
+                account.getEmployee().getId());
+    }
+}
@@ -1,9 +1,15 @@
 package com.api.employeemanagementapi.entity;
 
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Collate;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.TenantId;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -12,8 +18,20 @@ import java.util.UUID;
 @Setter
 @AllArgsConstructor
 @Entity
-@Table(name = "employees")
+@DynamicUpdate
+@Table(name = "employees", uniqueConstraints = {
+        @UniqueConstraint(name = Employee.EMAIL_CONSTRAINT, columnNames = {"tenant_id", "email"}),
+        @UniqueConstraint(name = Employee.PHONE_NUMBER_CONSTRAINT, columnNames = {"tenant_id", "phone_number"})
+}, indexes = {
+        @Index(name = "idx_employees_tenant_position", columnList = "tenant_id, position"),
+        @Index(name = "idx_employees_tenant_hire_date_id", columnList = "tenant_id, hire_date, id"),
+        @Index(name = "idx_employees_tenant_salary", columnList = "tenant_id, salary"),
+        @Index(name = "idx_employees_manager_id", columnList = "manager_id"),
+        @Index(name = "idx_employees_tenant_org_path_id", columnList = "tenant_id, org_path, id")
+})
 public class Employee {
+    public static final String EMAIL_CONSTRAINT = "uk_employees_tenant_email";
+    public static final String PHONE_NUMBER_CONSTRAINT = "uk_employees_tenant_phone_number";
 
     @Id
     @Column(name = "id", updatable = false, nullable = false)
@@ -25,10 +43,10 @@ public class Employee {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
-    @Column(name = "email", unique = true, nullable = false)
+    @Column(name = "email", nullable = false)
     private String email;
 
-    @Column(name = "phone_number", unique = true, nullable = false)
+    @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 
     @Column(name = "position", nullable = false)
@@ -40,5 +58,30 @@ public class Employee {
     @Column(name = "hire_date", nullable = false)
     private LocalDate hireDate;
 
+    @Column(name = "manager_id")
+    private UUID managerId;
+
+    /**
+     * The ids of every manager above this employee, from the top down, as {@code /id/id/}; {@code /}
+     * for someone without a manager. Byte-wise ("C") collation makes a subtree one index range.
+     */
+    @JsonIgnore
+    @Collate("C")
+    @ColumnDefault("'" + OrgPath.ROOT + "'")
+    @Column(name = "org_path", nullable = false, length = 2048)
+    private String orgPath = OrgPath.ROOT;
+
+    // Set by Hibernate from the session's tenant on insert; every query and load filters on it.
+    @JsonIgnore
+    @TenantId
+    @ColumnDefault("'" + TenantContext.DEFAULT + "'")
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = TenantContext.MAX_LENGTH)
+    private String tenantId;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Employee() {}
 }
@@ -0,0 +1,60 @@
+package com.api.employeemanagementapi.entity;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox row written in the same transaction as the employee change it records. {@code seq} stays
+ * null until the relay publishes the row after commit, so the feed's order is commit order.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "employee_changes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_employee_changes_seq", columnNames = "seq")
+}, indexes = {
+        @Index(name = "idx_employee_changes_tenant_seq", columnList = "tenant_id, seq")
+})
+public class EmployeeChange {
+    @Id
+    @JsonIgnore
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_changes_id_seq")
+    @SequenceGenerator(name = "employee_changes_id_seq", sequenceName = "employee_changes_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "seq")
+    private Long seq;
+
+    @JsonIgnore
+    @TenantId
+    @ColumnDefault("'" + TenantContext.DEFAULT + "'")
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = TenantContext.MAX_LENGTH)
+    private String tenantId;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "type", nullable = false, length = 10)
+    private String type;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    // The employee as of this change, as JSON; null for deletes.
+    @JsonRawValue
+    @Column(name = "payload", columnDefinition = "text")
+    private String payload;
+}
@@ -0,0 +1,44 @@
+package com.api.employeemanagementapi.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Helpers for {@link Employee#getOrgPath()}, the materialized path of an employee's managers.
+ * Everyone below an employee has a path starting with {@link #childPath}, so a subtree is the
+ * range {@code [childPath, upperBound(childPath))} of byte-wise ordered paths.
+ */
+public final class OrgPath {
+    public static final String ROOT = "/";
+
+    private OrgPath() {}
+
+    /**
+     * The path of an employee's direct reports, and the prefix shared by their whole subtree.
+     */
+    public static String childPath(Employee employee) {
+        return employee.getOrgPath() + employee.getId() + "/";
+    }
+
+    /**
+     * The smallest path greater than every path starting with {@code prefix}.
+     */
+    public static String upperBound(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    /**
+     * The managers named by a path, nearest first.
+     */
+    public static List<UUID> managerIds(String path) {
+        List<UUID> ids = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                ids.addFirst(UUID.fromString(segment));
+            }
+        }
+        return ids;
+    }
+}
@@ -1,26 +1,34 @@
 package com.api.employeemanagementapi.entity;
 
+import com.api.employeemanagementapi.shared.TenantContext;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "user_accounts")
+@Table(name = "user_accounts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_accounts_tenant_username", columnNames = {"tenant_id", "username"}),
+        @UniqueConstraint(name = UserAccount.EMPLOYEE_CONSTRAINT, columnNames = "employee_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserAccount {
+    public static final String EMPLOYEE_CONSTRAINT = "uk_user_accounts_employee";
+
     @NotNull(message = "Id cannot be null")
     @Id
     private UUID id;
 
-    @Column(name = "username", unique = true, nullable = false, length = 50)
+    @Column(name = "username", nullable = false, length = 50)
     private String username;
 
     @Column(name = "password", nullable = false)
@@ -29,7 +37,12 @@ public class UserAccount {
     @Column(name = "role", nullable = false, length = 20)
     private String role = "USER";
 
+    @TenantId
+    @ColumnDefault("'" + TenantContext.DEFAULT + "'")
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = TenantContext.MAX_LENGTH)
+    private String tenantId;
+
     @OneToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "employee_id", unique = true, nullable = false)
+    @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 }
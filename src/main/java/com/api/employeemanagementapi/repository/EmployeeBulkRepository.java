@@ -0,0 +1,39 @@
+package com.api.employeemanagementapi.repository;
+
+import com.api.employeemanagementapi.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based writes that bypass the persistence context: callers must not hold managed copies of
+ * the affected employees.
+ */
+public interface EmployeeBulkRepository {
+    /**
+     * Reads the ids matching {@code filter} and locks their rows until the transaction ends, so they
+     * still match when a following bulk write reaches them.
+     */
+    List<UUID> findIdsForUpdate(Specification<Employee> filter);
+
+    /**
+     * Multiplies the salary by {@code salaryFactor} (rounded to cents) and/or sets the position of
+     * every listed employee in one UPDATE, bumping each version. Null arguments leave that column alone.
+     */
+    int updateAll(Collection<UUID> ids, BigDecimal salaryFactor, String position);
+
+    /**
+     * Replaces the leading {@code fromPrefix} of every path starting with it by {@code toPrefix}, in
+     * one UPDATE over the subtree's index range. Versions are left alone: no visible field changes.
+     */
+    int movePaths(String fromPrefix, String toPrefix);
+
+    /**
+     * Moves every direct report of {@code managerId}, with everyone below them, under
+     * {@code newManagerId} in one UPDATE. {@code fromPrefix} is the old manager's child path and
+     * {@code toPrefix} the new one's. Only the direct reports' versions are bumped.
+     */
+    int reassignReports(UUID managerId, UUID newManagerId, String fromPrefix, String toPrefix);
+}
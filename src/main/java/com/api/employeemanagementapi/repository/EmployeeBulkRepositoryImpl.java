@@ -0,0 +1,89 @@
+package com.api.employeemanagementapi.repository;
+
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.OrgPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+class EmployeeBulkRepositoryImpl implements EmployeeBulkRepository {
+    private final EntityManager entityManager;
+
+    EmployeeBulkRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UUID> findIdsForUpdate(Specification<Employee> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Employee> employee = query.from(Employee.class);
+        query.select(employee.get("id")).where(filter.toPredicate(employee, query, cb));
+        return entityManager.createQuery(query).setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+
+    @Override
+    public int updateAll(Collection<UUID> ids, BigDecimal salaryFactor, String position) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> employee = update.from(Employee.class);
+        if (salaryFactor != null) {
+            Path<BigDecimal> salary = employee.get("salary");
+            update.set(salary, cb.round(cb.prod(salary, salaryFactor), 2));
+        }
+        if (position != null) {
+            update.set(employee.<String>get("position"), position);
+        }
+        Path<Long> version = employee.get("version");
+        update.set(version, cb.sum(version, 1L));
+        update.where(employee.get("id").in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int movePaths(String fromPrefix, String toPrefix) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> employee = update.from(Employee.class);
+        Path<String> orgPath = employee.get("orgPath");
+        update.set(orgPath, rebase(cb, orgPath, fromPrefix, toPrefix));
+        update.where(inRange(cb, orgPath, fromPrefix));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int reassignReports(UUID managerId, UUID newManagerId, String fromPrefix, String toPrefix) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> employee = update.from(Employee.class);
+        Path<String> orgPath = employee.get("orgPath");
+        Path<UUID> manager = employee.get("managerId");
+        Path<Long> version = employee.get("version");
+        Predicate directReport = cb.equal(manager, managerId);
+        Expression<UUID> newManager = newManagerId == null ? cb.nullLiteral(UUID.class) : cb.literal(newManagerId);
+        update.set(orgPath, rebase(cb, orgPath, fromPrefix, toPrefix));
+        update.set(manager, cb.<UUID>selectCase().when(directReport, newManager).otherwise(manager));
+        update.set(version, cb.<Long>selectCase().when(directReport, cb.sum(version, 1L)).otherwise(version));
+        update.where(inRange(cb, orgPath, fromPrefix));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static Expression<String> rebase(CriteriaBuilder cb, Path<String> orgPath, String fromPrefix, String toPrefix) {
+        return cb.concat(cb.literal(toPrefix), cb.substring(orgPath, fromPrefix.length() + 1));
+    }
+
+    private static Predicate inRange(CriteriaBuilder cb, Path<String> orgPath, String prefix) {
+        return cb.and(cb.greaterThanOrEqualTo(orgPath, prefix), cb.lessThan(orgPath, OrgPath.upperBound(prefix)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.api.employeemanagementapi.repository;
+
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+    List<EmployeeChange> findBySeqGreaterThanOrderBySeq(long since, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from EmployeeChange c where c.seq is null order by c.id")
+    List<EmployeeChange> findUnpublished(Limit limit);
+
+    @Query("select coalesce(max(c.seq), 0) from EmployeeChange c")
+    long findLatestSeq();
+
+    // Native, so it is not tenant-filtered: purging is global, and so is the retained range.
+    @Query(value = "select min(seq) from employee_changes", nativeQuery = true)
+    Long findOldestSeq();
+
+    @Modifying
+    @Query("delete from EmployeeChange c where c.seq < :latest and c.changedAt < :before")
+    int deletePublishedBefore(@Param("latest") long latest, @Param("before") Instant before);
+}
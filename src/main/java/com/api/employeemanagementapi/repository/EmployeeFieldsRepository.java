@@ -0,0 +1,25 @@
+package com.api.employeemanagementapi.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sparse-fieldset reads: only the named attributes are selected, and rows come back as maps keyed
+ * by attribute name instead of managed entities, so nothing lands in the persistence context.
+ */
+public interface EmployeeFieldsRepository {
+    List<String> FIELDS = List.of("id", "firstName", "lastName", "email", "phoneNumber", "position", "salary",
+            "hireDate", "managerId", "version");
+
+    List<Map<String, Object>> findAllFields(List<String> fields);
+
+    /**
+     * Keyset page over {@code (hireDate, id)}; pass a null position for the first page.
+     */
+    List<Map<String, Object>> findPageFields(List<String> fields, LocalDate afterHireDate, UUID afterId, int limit);
+
+    Optional<Map<String, Object>> findFieldsById(UUID id, List<String> fields);
+}
@@ -0,0 +1,70 @@
+package com.api.employeemanagementapi.repository;
+
+import com.api.employeemanagementapi.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+class EmployeeFieldsRepositoryImpl implements EmployeeFieldsRepository {
+    private final EntityManager entityManager;
+
+    EmployeeFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(List<String> fields) {
+        CriteriaQuery<Tuple> query = entityManager.getCriteriaBuilder().createTupleQuery();
+        select(query, query.from(Employee.class), fields);
+        return toMaps(entityManager.createQuery(query), fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findPageFields(List<String> fields, LocalDate afterHireDate, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+        select(query, employee, fields);
+        if (afterHireDate != null) {
+            query.where(cb.or(
+                    cb.greaterThan(employee.get("hireDate"), afterHireDate),
+                    cb.and(cb.equal(employee.get("hireDate"), afterHireDate), cb.greaterThan(employee.get("id"), afterId))));
+        }
+        query.orderBy(cb.asc(employee.get("hireDate")), cb.asc(employee.get("id")));
+        return toMaps(entityManager.createQuery(query).setMaxResults(limit), fields);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(UUID id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+        select(query, employee, fields);
+        query.where(cb.equal(employee.get("id"), id));
+        return toMaps(entityManager.createQuery(query), fields).stream().findFirst();
+    }
+
+    private static void select(CriteriaQuery<Tuple> query, Root<Employee> employee, List<String> fields) {
+        query.multiselect(fields.stream().<Selection<?>>map(field -> employee.get(field).alias(field)).toList());
+    }
+
+    private static List<Map<String, Object>> toMaps(TypedQuery<Tuple> query, List<String> fields) {
+        return query.getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    fields.forEach(field -> row.put(field, tuple.get(field)));
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -1,11 +1,118 @@
 package com.api.employeemanagementapi.repository;
 
 import com.api.employeemanagementapi.entity.Employee;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
-    boolean existsByPhoneNumber(String phoneNumber);
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
-    boolean existsByEmail(String email);
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, JpaSpecificationExecutor<Employee>,
+        EmployeeFieldsRepository, EmployeeBulkRepository {
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select e.phoneNumber from Employee e where e.phoneNumber in :phoneNumbers")
+    List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Employee e where e.id in :ids")
+    List<Employee> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select e from Employee e where e.id in :ids")
+    List<Employee> findAllByIdForShare(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Locks every row whose path lies in {@code [from, to)}, i.e. a whole subtree.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Employee e where e.orgPath >= :from and e.orgPath < :to")
+    List<UUID> lockOrgRange(@Param("from") String from, @Param("to") String to);
+
+    @Modifying
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<UUID> ids);
+
+    List<Employee> findAllByOrderByHireDateAscIdAsc(Limit limit);
+
+    @Query("""
+            select e from Employee e
+            where e.hireDate > :hireDate or (e.hireDate = :hireDate and e.id > :id)
+            order by e.hireDate, e.id
+            """)
+    List<Employee> findPageAfter(@Param("hireDate") LocalDate hireDate, @Param("id") UUID id, Limit limit);
+
+    List<Employee> findAllByManagerIdOrderByHireDateAscIdAsc(UUID managerId);
+
+    boolean existsByManagerId(UUID managerId);
+
+    @Query("select e.id from Employee e where e.managerId = :managerId")
+    List<UUID> findDirectReportIds(@Param("managerId") UUID managerId);
+
+    @Query("select count(e) > 0 from Employee e where e.managerId in :ids and e.id not in :ids")
+    boolean hasReportsOutside(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select e from Employee e
+            where e.orgPath >= :from and e.orgPath < :to
+            order by e.orgPath, e.id
+            """)
+    List<Employee> findOrgRange(@Param("from") String from, @Param("to") String to, Limit limit);
+
+    @Query("""
+            select e from Employee e
+            where e.orgPath >= :orgPath and e.orgPath < :to and (e.orgPath > :orgPath or e.id > :id)
+            order by e.orgPath, e.id
+            """)
+    List<Employee> findOrgRangeAfter(@Param("orgPath") String orgPath, @Param("id") UUID id, @Param("to") String to,
+                                     Limit limit);
+
+    @Query(value = """
+            select position as groupKey, count(*) as headcount,
+                   min(salary) as minSalary, max(salary) as maxSalary, avg(salary) as averageSalary,
+                   percentile_cont(0.5) within group (order by salary) as p50Salary,
+                   percentile_cont(0.9) within group (order by salary) as p90Salary,
+                   percentile_cont(0.99) within group (order by salary) as p99Salary
+            from employees
+            where tenant_id = :tenantId
+            group by position
+            order by position
+            """, nativeQuery = true)
+    List<SalaryStatsRow> salaryStatsByPosition(@Param("tenantId") String tenantId);
+
+    @Query(value = """
+            select cast(extract(year from hire_date) as varchar) as groupKey, count(*) as headcount,
+                   min(salary) as minSalary, max(salary) as maxSalary, avg(salary) as averageSalary,
+                   percentile_cont(0.5) within group (order by salary) as p50Salary,
+                   percentile_cont(0.9) within group (order by salary) as p90Salary,
+                   percentile_cont(0.99) within group (order by salary) as p99Salary
+            from employees
+            where tenant_id = :tenantId
+            group by 1
+            order by 1
+            """, nativeQuery = true)
+    List<SalaryStatsRow> salaryStatsByHireYear(@Param("tenantId") String tenantId);
+
+    @Query("select e from Employee e order by e.hireDate, e.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Employee> streamAllOrdered();
 }
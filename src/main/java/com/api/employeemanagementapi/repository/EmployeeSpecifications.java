@@ -0,0 +1,77 @@
+package com.api.employeemanagementapi.repository;
+
+import com.api.employeemanagementapi.dtos.EmployeeSearchCriteria;
+import com.api.employeemanagementapi.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.UUID;
+
+public final class EmployeeSpecifications {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EmployeeSpecifications() {}
+
+    public static Specification<Employee> matching(EmployeeSearchCriteria criteria) {
+        return Specification.allOf(
+                hasPosition(criteria.position()),
+                salaryAtLeast(criteria.minSalary()),
+                salaryAtMost(criteria.maxSalary()),
+                hiredOnOrAfter(criteria.hiredFrom()),
+                hiredOnOrBefore(criteria.hiredTo()),
+                nameStartsWith(criteria.name()),
+                emailStartsWith(criteria.email()));
+    }
+
+    public static Specification<Employee> hasPosition(String position) {
+        return isBlank(position) ? null : (root, query, cb) -> cb.equal(root.get("position"), position);
+    }
+
+    public static Specification<Employee> idIn(Collection<UUID> ids) {
+        return ids == null ? null : (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Employee> salaryAtLeast(BigDecimal min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), min);
+    }
+
+    public static Specification<Employee> salaryAtMost(BigDecimal max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), max);
+    }
+
+    public static Specification<Employee> hiredOnOrAfter(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("hireDate"), from);
+    }
+
+    public static Specification<Employee> hiredOnOrBefore(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("hireDate"), to);
+    }
+
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        if (isBlank(prefix)) {
+            return null;
+        }
+        String pattern = likePrefix(prefix.toLowerCase(Locale.ROOT));
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("firstName")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("lastName")), pattern, LIKE_ESCAPE));
+    }
+
+    public static Specification<Employee> emailStartsWith(String prefix) {
+        if (isBlank(prefix)) {
+            return null;
+        }
+        String pattern = likePrefix(prefix);
+        return (root, query, cb) -> cb.like(root.get("email"), pattern, LIKE_ESCAPE);
+    }
+
+    private static String likePrefix(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package com.api.employeemanagementapi.repository;
+
+import java.math.BigDecimal;
+
+public interface SalaryStatsRow {
+    String getGroupKey();
+    long getHeadcount();
+    BigDecimal getMinSalary();
+    BigDecimal getMaxSalary();
+    BigDecimal getAverageSalary();
+    BigDecimal getP50Salary();
+    BigDecimal getP90Salary();
+    BigDecimal getP99Salary();
+}
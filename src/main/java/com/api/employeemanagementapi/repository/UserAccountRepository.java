@@ -2,10 +2,19 @@ package com.api.employeemanagementapi.repository;
 
 import com.api.employeemanagementapi.entity.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 public interface  UserAccountRepository extends JpaRepository<UserAccount, UUID> {
     boolean existsByUsername(String username);
 
     UserAccount findByUsername(String username);
+
+    @Modifying
+    @Transactional
+    @Query("update UserAccount u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int updatePassword(@Param("id") UUID id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -2,27 +2,29 @@ package com.api.employeemanagementapi.service;
 
 import com.api.employeemanagementapi.entity.UserAccount;
 import com.api.employeemanagementapi.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "auth.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class AuthService {
 
     private final UserAccountRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     @Autowired
-    public AuthService(UserAccountRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserAccountRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
-    public boolean authenticate(String username, String password) {
+    public UserAccount authenticate(String username, String password) {
         UserAccount user = userRepository.findByUsername(username);
-        if (user == null) {
-            return false;
+        if (user == null || !passwordHasher.matches(password, user.getPassword())) {
+            return null;
         }
-        return passwordEncoder.matches(password, user.getPassword());
+        passwordHasher.rehashIfNeeded(user, password);
+        return user;
     }
 }
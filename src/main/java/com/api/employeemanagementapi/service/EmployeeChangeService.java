@@ -0,0 +1,120 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.ChangeFeedProperties;
+import com.api.employeemanagementapi.dtos.EmployeeChangePage;
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import com.api.employeemanagementapi.repository.EmployeeChangeRepository;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbox-backed change feed. Every {@link EmployeeChangedEvent} is stored in the transaction that
+ * raised it; the relay then numbers committed rows, in the order it finds them, so consumers can
+ * follow the feed with a plain {@code seq > since} cursor without skipping late commits. Numbers
+ * are shared by all tenants, so a tenant's own feed has gaps; readers only see their tenant's rows.
+ */
+@Service
+public class EmployeeChangeService {
+    static final int MAX_PAGE_SIZE = 1000;
+    private static final int RELAY_BATCH_SIZE = 1000;
+
+    private final EmployeeChangeRepository repo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactions;
+    private final ChangeFeedProperties properties;
+
+    public EmployeeChangeService(EmployeeChangeRepository repo, ObjectMapper objectMapper,
+                                 TransactionTemplate transactions, ChangeFeedProperties properties) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.transactions = transactions;
+        this.properties = properties;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EmployeeChangedEvent event) {
+        EmployeeChange change = new EmployeeChange();
+        change.setEmployeeId(event.employeeId());
+        change.setType(event.type().name());
+        change.setVersion(event.employee().getVersion());
+        change.setChangedAt(Instant.now());
+        if (event.type() != EmployeeChangedEvent.Type.DELETED) {
+            change.setPayload(toJson(event));
+        }
+        repo.save(change);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeChangePage changes(long since, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw CustomResponseException.BadRequest("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        requireRetained(since);
+        List<EmployeeChange> items = repo.findBySeqGreaterThanOrderBySeq(since, Limit.of(limit));
+        return new EmployeeChangePage(items, items.isEmpty() ? since : items.getLast().getSeq());
+    }
+
+    /**
+     * Fails with 410 when changes after {@code since} have already been purged, so the caller
+     * knows it must resynchronize from {@code GET /employees} instead of silently missing them.
+     */
+    @Transactional(readOnly = true)
+    public void requireRetained(long since) {
+        if (since < 0) {
+            throw CustomResponseException.BadRequest("since must not be negative");
+        }
+        Long oldest = repo.findOldestSeq();
+        if (oldest != null && since < oldest - 1) {
+            throw CustomResponseException.Gone("Changes up to " + (oldest - 1) + " have been purged; reload "
+                    + "GET /employees and continue from since=" + (oldest - 1));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.employees.changes.relay-interval}")
+    public void relay() {
+        TenantContext.run(TenantContext.ROOT, () -> {
+            Integer published;
+            do {
+                published = transactions.execute(status -> publishBatch());
+            } while (published != null && published == RELAY_BATCH_SIZE);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.employees.changes.purge-interval}")
+    public void purge() {
+        // The newest row is always kept so numbering never restarts.
+        TenantContext.run(TenantContext.ROOT, () -> transactions.executeWithoutResult(status ->
+                repo.deletePublishedBefore(repo.findLatestSeq(), Instant.now().minus(properties.retention()))));
+    }
+
+    private int publishBatch() {
+        List<EmployeeChange> batch = repo.findUnpublished(Limit.of(RELAY_BATCH_SIZE));
+        // Read only once the rows are locked: a concurrent relay's numbers are then either visible
+        // here or collide on uk_employee_changes_seq, which rolls this batch back for the next run.
+        long seq = repo.findLatestSeq();
+        for (EmployeeChange change : batch) {
+            change.setSeq(++seq);
+        }
+        return batch.size();
+    }
+
+    private String toJson(EmployeeChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.employee());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize employee " + event.employeeId(), ex);
+        }
+    }
+}
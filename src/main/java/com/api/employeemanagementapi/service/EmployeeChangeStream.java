@@ -0,0 +1,97 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.ChangeFeedProperties;
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes published changes to Server-Sent Event subscribers. A single poller reads the feed for
+ * every subscriber, sharing one query between subscribers at the same position, so the number of
+ * open streams does not multiply database reads. Each event's id is its {@code seq}, which lets
+ * clients resume with {@code Last-Event-ID}. Subscribers only receive their own tenant's changes.
+ */
+@Component
+public class EmployeeChangeStream {
+    public static final String EVENT_NAME = "employee-change";
+
+    private record Position(String tenant, long seq) {}
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final String tenant;
+        private long lastSeq;
+        private long lastSentNanos = System.nanoTime();
+
+        private Subscriber(SseEmitter emitter, String tenant, long lastSeq) {
+            this.emitter = emitter;
+            this.tenant = tenant;
+            this.lastSeq = lastSeq;
+        }
+    }
+
+    private final EmployeeChangeService changes;
+    private final ChangeFeedProperties properties;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public EmployeeChangeStream(EmployeeChangeService changes, ChangeFeedProperties properties) {
+        this.changes = changes;
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe(long since) {
+        changes.requireRetained(since);
+        SseEmitter emitter = new SseEmitter(properties.streamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, TenantContext.current(), since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.employees.changes.poll-interval}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<Position, List<EmployeeChange>> pages = new HashMap<>();
+        long heartbeatNanos = properties.heartbeat().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                List<EmployeeChange> page = pages.computeIfAbsent(new Position(subscriber.tenant, subscriber.lastSeq),
+                        position -> TenantContext.call(position.tenant(),
+                                () -> changes.changes(position.seq(), EmployeeChangeService.MAX_PAGE_SIZE).items()));
+                for (EmployeeChange change : page) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.getSeq()))
+                            .name(EVENT_NAME)
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.lastSeq = change.getSeq();
+                }
+                long now = System.nanoTime();
+                if (!page.isEmpty()) {
+                    subscriber.lastSentNanos = now;
+                } else if (now - subscriber.lastSentNanos >= heartbeatNanos) {
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                    subscriber.lastSentNanos = now;
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; its emitter is already unusable.
+                subscribers.remove(subscriber);
+            } catch (CustomResponseException ex) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.entity.Employee;
+import java.util.UUID;
+
+/**
+ * Published by {@link EmployeeServiceImpl} inside the writing transaction for every employee it
+ * creates, updates or deletes. For deletes, {@code employee} holds the state that was removed.
+ */
+public record EmployeeChangedEvent(Type type, UUID employeeId, Employee employee) {
+    public enum Type { CREATED, UPDATED, DELETED }
+}
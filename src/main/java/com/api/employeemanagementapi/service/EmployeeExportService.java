@@ -0,0 +1,181 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.repository.EmployeeChangeRepository;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzipped full-directory snapshots kept as local files. Each snapshot records the newest
+ * change-feed sequence it includes, so it is rebuilt only after a change has been published, and
+ * consumers can follow {@code GET /employees/changes} from that sequence. Every tenant has its own
+ * snapshots, in its own subdirectory, built under its own lock.
+ */
+@Service
+public class EmployeeExportService {
+    public enum Format { NDJSON, CSV }
+
+    private record Key(String tenant, Format format) {}
+
+    public record Snapshot(Path file, long seq, long size, Format format) {
+        public String filename() {
+            return file.getFileName().toString();
+        }
+    }
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,phoneNumber,position,salary,hireDate,version,managerId";
+
+    private final EmployeeService employeeService;
+    private final EmployeeChangeRepository changeRepo;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Map<String, ReentrantLock> writeLocks = new ConcurrentHashMap<>();
+    private final Map<Key, Snapshot> current = new ConcurrentHashMap<>();
+
+    public EmployeeExportService(EmployeeService employeeService, EmployeeChangeRepository changeRepo,
+                                 ObjectMapper objectMapper, @Value("${app.employees.export.directory}") Path directory) {
+        this.employeeService = employeeService;
+        this.changeRepo = changeRepo;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+    }
+
+    public static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw CustomResponseException.BadRequest("format must be 'ndjson' or 'csv'");
+        }
+    }
+
+    /**
+     * Returns the snapshot for the current sequence, writing it first if it does not exist yet.
+     * Concurrent callers wait for a single writer instead of each scanning the table.
+     */
+    public Snapshot snapshot(Format format) {
+        String tenant = TenantContext.current();
+        Key key = new Key(tenant, format);
+        // Read before the scan: the file then holds at least every change up to this sequence.
+        long seq = changeRepo.findLatestSeq();
+        Snapshot snapshot = current.get(key);
+        if (snapshot != null && snapshot.seq() == seq) {
+            return snapshot;
+        }
+        ReentrantLock writeLock = writeLocks.computeIfAbsent(tenant, t -> new ReentrantLock());
+        writeLock.lock();
+        try {
+            snapshot = current.get(key);
+            if (snapshot == null || snapshot.seq() != seq) {
+                Path file = directory.resolve(tenant).resolve(fileName(tenant, seq, format));
+                write(file, format);
+                snapshot = new Snapshot(file, seq, Files.size(file), format);
+                current.put(key, snapshot);
+                // Also clears files left by earlier runs, which may describe a different database.
+                deleteOlder(file, format);
+            }
+            return snapshot;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Copies a snapshot to {@code out} with {@link FileChannel#transferTo}, which lets the JDK move
+     * the file through its own transfer buffers instead of reading it into the heap.
+     */
+    public void transferTo(Snapshot snapshot, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot.file(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < snapshot.size()) {
+                position += channel.transferTo(position, snapshot.size() - position, target);
+            }
+        }
+    }
+
+    private void write(Path file, Format format) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "export-", ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                if (format == Format.CSV) {
+                    out.write((CSV_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                employeeService.streamAll(employee -> {
+                    try {
+                        out.write(format == Format.CSV ? csvLine(employee) : objectMapper.writeValueAsBytes(employee));
+                        out.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void deleteOlder(Path current, Format format) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(current.getParent(), "employees-*." + extension(format))) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ignored) {
+                        // Still being served on a platform that cannot unlink open files; next rebuild retries.
+                    }
+                }
+            }
+        }
+    }
+
+    private static String fileName(String tenant, long seq, Format format) {
+        return "employees-" + tenant + "-" + seq + "." + extension(format);
+    }
+
+    private static String extension(Format format) {
+        return format.name().toLowerCase(Locale.ROOT) + ".gz";
+    }
+
+    private static byte[] csvLine(Employee employee) {
+        return Stream.of(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                        employee.getPhoneNumber(), employee.getPosition(), employee.getSalary().toPlainString(),
+                        employee.getHireDate(), employee.getVersion(), employee.getManagerId())
+                .map(value -> csvField(value == null ? "" : String.valueOf(value)))
+                .collect(Collectors.joining(","))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,209 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.dtos.EmployeeCreate;
+import com.api.employeemanagementapi.dtos.EmployeeImportReport;
+import com.api.employeemanagementapi.dtos.EmployeeImportResult;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.GlobalExceptionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Parses NDJSON or CSV uploads of {@link EmployeeCreate} records and feeds them to
+ * {@link EmployeeService#createAll} in fixed-size chunks, one transaction per chunk.
+ */
+@Service
+public class EmployeeImportService {
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    static final int CHUNK_SIZE = 500;
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("firstname", "lastname", "salary", "hiredate", "email", "phonenumber", "position");
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public EmployeeImportService(EmployeeService employeeService, ObjectMapper objectMapper, Validator validator) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public EmployeeImportReport importRecords(InputStream body, MediaType contentType) {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            throw CustomResponseException.BadRequest("Unsupported import format: " + contentType);
+        }
+
+        List<EmployeeImportResult> results = new ArrayList<>();
+        Map<Long, EmployeeCreate> chunk = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = csv ? readCsvHeader(reader.readLine()) : null;
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    EmployeeCreate record = csv ? parseCsv(line, header) : objectMapper.readValue(line, EmployeeCreate.class);
+                    Set<ConstraintViolation<EmployeeCreate>> violations = validator.validate(record);
+                    if (!violations.isEmpty()) {
+                        results.add(EmployeeImportResult.failed(row, violations.stream()
+                                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                                .sorted()
+                                .collect(Collectors.joining("; "))));
+                        continue;
+                    }
+                    chunk.put(row, record);
+                } catch (IOException | RuntimeException ex) {
+                    results.add(EmployeeImportResult.failed(row, "Malformed record"));
+                    continue;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(createChunk(chunk));
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(createChunk(chunk));
+        }
+
+        results.sort((a, b) -> Long.compare(a.row(), b.row()));
+        return EmployeeImportReport.of(results);
+    }
+
+    /**
+     * Inserts one chunk. A row inserted concurrently by someone else can still trip a unique
+     * constraint the chunk's own checks saw as free, which rolls the whole chunk back; its rows are
+     * then retried one by one so only the clashing ones fail and every row is still reported.
+     */
+    private List<EmployeeImportResult> createChunk(Map<Long, EmployeeCreate> records) {
+        try {
+            return employeeService.createAll(toEntities(records));
+        } catch (DataIntegrityViolationException | ConstraintViolationException ex) {
+            List<EmployeeImportResult> results = new ArrayList<>(records.size());
+            records.forEach((row, record) -> {
+                try {
+                    results.addAll(employeeService.createAll(toEntities(Map.of(row, record))));
+                } catch (DataIntegrityViolationException | ConstraintViolationException rowEx) {
+                    results.add(EmployeeImportResult.failed(row, GlobalExceptionResponse.conflictMessage(rowEx)));
+                }
+            });
+            return results;
+        }
+    }
+
+    // Fresh entities on every attempt: a rolled-back flush leaves ids and versions on the old ones.
+    private static Map<Long, Employee> toEntities(Map<Long, EmployeeCreate> records) {
+        Map<Long, Employee> entities = new LinkedHashMap<>();
+        records.forEach((row, record) -> entities.put(row, record.toEntity()));
+        return entities;
+    }
+
+    private Map<String, Integer> readCsvHeader(String line) {
+        if (line == null) {
+            throw CustomResponseException.BadRequest("CSV header is missing");
+        }
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(c -> !header.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw CustomResponseException.BadRequest("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private EmployeeCreate parseCsv(String line, Map<String, Integer> header) {
+        List<String> values = splitCsv(line);
+        return new EmployeeCreate(
+                column(values, header, "firstname"),
+                column(values, header, "lastname"),
+                toDecimal(column(values, header, "salary")),
+                toDate(column(values, header, "hiredate")),
+                column(values, header, "email"),
+                column(values, header, "phonenumber"),
+                column(values, header, "position"),
+                header.containsKey("managerid") ? toUuid(column(values, header, "managerid")) : null);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> header, String name) {
+        int index = header.get(name);
+        if (index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal toDecimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static UUID toUuid(String value) {
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    private static LocalDate toDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
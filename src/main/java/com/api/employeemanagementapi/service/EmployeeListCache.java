@@ -0,0 +1,123 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.ReplicaRoutingDataSource;
+import com.api.employeemanagementapi.repository.EmployeeChangeRepository;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Fully encoded {@code GET /employees} responses, plain and gzipped, so repeated reads skip the
+ * query and Jackson and are written to the socket as they are.
+ * <p>
+ * Entries are keyed by tenant and stamped with the version they were built under: the tenant's own
+ * write count plus a shared epoch. Every committed {@link EmployeeChangedEvent} bumps its tenant's
+ * count, so one tenant's writes leave the others' entries valid; the change feed moving bumps the
+ * epoch, which is how writes made by other instances show up here (within the relay and sync
+ * intervals). A stale entry
+ * is rebuilt on its next read, by one caller while the others for the same key wait. Rebuilds read
+ * the primary, so a lagging replica cannot pin old rows to a new version.
+ */
+@Component
+@ConditionalOnProperty(name = "app.employees.list-cache.enabled", havingValue = "true")
+public class EmployeeListCache {
+    public record Key(String tenant, String cursor, Integer limit, String fields) {}
+
+    public record Body(long version, byte[] json, byte[] gzip) {
+        int weight() {
+            return json.length + gzip.length;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final EmployeeChangeRepository changeRepo;
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<String, AtomicLong> tenantVersions = new ConcurrentHashMap<>();
+    private final AtomicLong lastFeedSeq = new AtomicLong(-1);
+    private final Cache<Key, Body> bodies;
+
+    public EmployeeListCache(ObjectMapper objectMapper, EmployeeChangeRepository changeRepo, MeterRegistry registry,
+                             @Value("${app.employees.list-cache.max-size}") DataSize maxSize) {
+        this.objectMapper = objectMapper;
+        this.changeRepo = changeRepo;
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Body body) -> body.weight())
+                .recordStats()
+                .build();
+        // Same tag keys as the cache.* meters Boot registers for Spring caches, which Prometheus requires.
+        CaffeineCacheMetrics.monitor(registry, bodies, "employee.list",
+                Tags.of("cache.manager", "employeeListCache", "name", "employee.list"));
+    }
+
+    public long version(String tenant) {
+        AtomicLong writes = tenantVersions.get(tenant);
+        // Both parts only grow, so their sum moves whenever either does.
+        return epoch.get() + (writes != null ? writes.get() : 0);
+    }
+
+    /**
+     * Returns the encoded response for {@code key}, encoding what {@code response} produces when
+     * the cached one predates the current table version.
+     */
+    public Body get(Key key, Supplier<?> response) {
+        // Read before loading: the body then holds at least every write up to this version.
+        long version = version(key.tenant());
+        Body body = bodies.getIfPresent(key);
+        if (body != null && body.version() >= version) {
+            return body;
+        }
+        return bodies.asMap().compute(key, (k, current) -> current != null && current.version() >= version
+                ? current
+                : encode(version, ReplicaRoutingDataSource.callOnPrimary(response)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        tenantVersions.computeIfAbsent(event.employee().getTenantId(), tenant -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.employees.list-cache.sync-interval}")
+    public void sync() {
+        long seq = TenantContext.call(TenantContext.ROOT,
+                () -> ReplicaRoutingDataSource.callOnPrimary(changeRepo::findLatestSeq));
+        if (lastFeedSeq.getAndSet(seq) != seq) {
+            epoch.incrementAndGet();
+        }
+    }
+
+    private Body encode(long version, Object response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(json);
+            }
+            return new Body(version, json, gzip.toByteArray());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot encode employee list", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,13 +1,38 @@
 package com.api.employeemanagementapi.service;
 
+import com.api.employeemanagementapi.dtos.EmployeeBulkUpdate;
+import com.api.employeemanagementapi.dtos.EmployeeImportResult;
+import com.api.employeemanagementapi.dtos.EmployeePage;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.dtos.EmployeeSearchCriteria;
 import com.api.employeemanagementapi.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     List<Employee> all();
+    List<Map<String, Object>> all(String fields);
+    EmployeePage<Employee> page(String cursor, int limit);
+    EmployeePage<Map<String, Object>> page(String cursor, int limit, String fields);
+    void streamAll(Consumer<Employee> consumer);
+    Page<Employee> search(EmployeeSearchCriteria criteria, Pageable pageable);
     Employee get(UUID id);
+    Map<String, Object> get(UUID id, String fields);
     Employee create(Employee p);
-    Employee update(UUID id, Employee p);
-    void delete(UUID id);
+    List<EmployeeImportResult> createAll(Map<Long, Employee> rows);
+    Employee update(UUID id, Employee p, Set<Long> expectedVersions);
+    Employee patch(UUID id, EmployeePatch patch, Set<Long> expectedVersions);
+    void delete(UUID id, Set<Long> expectedVersions);
+    int updateAll(EmployeeBulkUpdate request);
+    int deleteAll(List<UUID> ids);
+    List<Employee> directReports(UUID id);
+    EmployeePage<Employee> subtree(UUID id, String cursor, int limit);
+    List<Employee> managementChain(UUID id);
+    Employee changeManager(UUID id, UUID managerId, Set<Long> expectedVersions);
+    int reassignReports(UUID id, UUID managerId);
 }
@@ -1,61 +1,526 @@
 package com.api.employeemanagementapi.service;
 
+import com.api.employeemanagementapi.config.CacheConfig;
+import com.api.employeemanagementapi.config.TenantScopedCache;
+import com.api.employeemanagementapi.dtos.EmployeeBulkUpdate;
+import com.api.employeemanagementapi.dtos.EmployeeCursor;
+import com.api.employeemanagementapi.dtos.EmployeeImportResult;
+import com.api.employeemanagementapi.dtos.EmployeePage;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.dtos.EmployeeSearchCriteria;
+import com.api.employeemanagementapi.dtos.OrgChartCursor;
 import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.OrgPath;
+import com.api.employeemanagementapi.repository.EmployeeFieldsRepository;
 import com.api.employeemanagementapi.repository.EmployeeRepository;
+import com.api.employeemanagementapi.repository.EmployeeSpecifications;
 import com.api.employeemanagementapi.shared.CustomResponseException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "employee.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
+    static final int MAX_PAGE_SIZE = 500;
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository repo;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher events;
+    private final IdGenerator idGenerator;
+    private final Cache employeeCache;
 
-    public EmployeeServiceImpl(EmployeeRepository repo) {
+    public EmployeeServiceImpl(EmployeeRepository repo, EntityManager entityManager, ApplicationEventPublisher events,
+                               IdGenerator idGenerator, CacheManager cacheManager) {
         this.repo = repo;
+        this.entityManager = entityManager;
+        this.events = events;
+        this.idGenerator = idGenerator;
+        this.employeeCache = cacheManager.getCache(CacheConfig.EMPLOYEES);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Employee> all() {
         return repo.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> all(String fields) {
+        return repo.findAllFields(parseFields(fields));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage<Employee> page(String cursor, int limit) {
+        checkPageLimit(limit);
+        // Fetch one extra row to learn whether another page exists without a count query.
+        Limit window = Limit.of(limit + 1);
+        List<Employee> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repo.findAllByOrderByHireDateAscIdAsc(window);
+        } else {
+            EmployeeCursor after = EmployeeCursor.decode(cursor);
+            rows = repo.findPageAfter(after.hireDate(), after.id(), window);
+        }
+        if (rows.size() <= limit) {
+            return new EmployeePage<>(rows, null);
+        }
+        List<Employee> items = rows.subList(0, limit);
+        return new EmployeePage<>(items, EmployeeCursor.of(items.get(limit - 1)).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage<Map<String, Object>> page(String cursor, int limit, String fields) {
+        checkPageLimit(limit);
+        List<String> requested = parseFields(fields);
+        // The cursor is built from (hireDate, id), so those are always selected and dropped afterwards.
+        List<String> selected = Stream.concat(requested.stream(), Stream.of("hireDate", "id")).distinct().toList();
+        EmployeeCursor after = cursor == null || cursor.isBlank() ? null : EmployeeCursor.decode(cursor);
+        List<Map<String, Object>> rows = repo.findPageFields(selected,
+                after != null ? after.hireDate() : null, after != null ? after.id() : null, limit + 1);
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Map<String, Object> last = rows.get(limit - 1);
+            nextCursor = new EmployeeCursor((LocalDate) last.get("hireDate"), (UUID) last.get("id")).encode();
+        }
+        rows.forEach(row -> row.keySet().retainAll(requested));
+        return new EmployeePage<>(rows, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = repo.streamAllOrdered()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                // Keep the persistence context from growing with the result set.
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Employee> search(EmployeeSearchCriteria criteria, Pageable pageable) {
+        return repo.findAll(EmployeeSpecifications.matching(criteria), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
     public Employee get(UUID id) {
         return repo.findById(id)
                 .orElseThrow(() -> CustomResponseException.ResourceNotFound(
                         "Employee with id " + id + " not found"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> get(UUID id, String fields) {
+        return repo.findFieldsById(id, parseFields(fields))
+                .orElseThrow(() -> CustomResponseException.ResourceNotFound(
+                        "Employee with id " + id + " not found"));
+    }
+
     @Override
     public Employee create(Employee employee) {
         validateEmployee(employee);
-        validateUniqueConstraints(employee);
-        employee.setId(UUID.randomUUID());
-        return repo.save(employee);
+        employee.setId(idGenerator.next());
+        employee.setOrgPath(pathUnder(employee.getManagerId()));
+        // Email and phone uniqueness is enforced by the table; violations surface as 409s.
+        entityManager.persist(employee);
+        entityManager.flush();
+        publish(EmployeeChangedEvent.Type.CREATED, employee);
+        return employee;
     }
 
+    /**
+     * Inserts one chunk of imported rows in a single transaction. Uniqueness is checked with one
+     * set-based query per column for the whole chunk, and the inserts are sent as JDBC batches.
+     * Rows are keyed by their position in the source file so every result can be reported back.
+     */
     @Override
-    public Employee update(UUID id, Employee employee) {
+    public List<EmployeeImportResult> createAll(Map<Long, Employee> rows) {
+        Set<String> takenEmails = new HashSet<>(repo.findExistingEmails(
+                rows.values().stream().map(Employee::getEmail).collect(Collectors.toSet())));
+        Set<String> takenPhoneNumbers = new HashSet<>(repo.findExistingPhoneNumbers(
+                rows.values().stream().map(Employee::getPhoneNumber).collect(Collectors.toSet())));
+        Set<UUID> managerIds = rows.values().stream()
+                .map(Employee::getManagerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, String> managerPaths = managerIds.isEmpty() ? Map.of() : repo.findAllByIdForShare(managerIds).stream()
+                .collect(Collectors.toMap(Employee::getId, OrgPath::childPath));
+
+        List<EmployeeImportResult> results = new ArrayList<>(rows.size());
+        rows.forEach((row, employee) -> {
+            try {
+                validateEmployee(employee);
+            } catch (CustomResponseException ex) {
+                results.add(EmployeeImportResult.failed(row, ex.getMessage()));
+                return;
+            }
+            if (takenEmails.contains(employee.getEmail())) {
+                results.add(EmployeeImportResult.failed(row, "Email " + employee.getEmail() + " is already in use"));
+                return;
+            }
+            if (takenPhoneNumbers.contains(employee.getPhoneNumber())) {
+                results.add(EmployeeImportResult.failed(row,
+                        "Phone number " + employee.getPhoneNumber() + " is already in use"));
+                return;
+            }
+            if (employee.getManagerId() != null && !managerPaths.containsKey(employee.getManagerId())) {
+                results.add(EmployeeImportResult.failed(row, "Manager " + employee.getManagerId() + " not found"));
+                return;
+            }
+            // Later rows of the same chunk must not reuse values claimed by earlier ones.
+            takenEmails.add(employee.getEmail());
+            takenPhoneNumbers.add(employee.getPhoneNumber());
+
+            employee.setId(idGenerator.next());
+            employee.setOrgPath(employee.getManagerId() == null ? OrgPath.ROOT : managerPaths.get(employee.getManagerId()));
+            entityManager.persist(employee);
+            publish(EmployeeChangedEvent.Type.CREATED, employee);
+            results.add(EmployeeImportResult.created(row, employee.getId()));
+        });
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public Employee update(UUID id, Employee employee, Set<Long> expectedVersions) {
         Employee existing = get(id);
+        checkVersion(existing, expectedVersions);
         validateUpdateFields(employee);
-        validateUniqueConstraintsForUpdate(existing, employee);
 
         updateEmployeeFields(existing, employee);
-        return repo.save(existing);
+        Employee saved = repo.saveAndFlush(existing);
+        publish(EmployeeChangedEvent.Type.UPDATED, saved);
+        return saved;
     }
 
     @Override
-    public void delete(UUID id) {
-        if (!repo.existsById(id)) {
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public Employee patch(UUID id, EmployeePatch patch, Set<Long> expectedVersions) {
+        Employee existing = get(id);
+        checkVersion(existing, expectedVersions);
+        // Only the columns the patch actually changes end up in the UPDATE (see @DynamicUpdate).
+        patch.applyPartially(existing);
+        validateUpdateFields(existing);
+        Employee saved = repo.saveAndFlush(existing);
+        publish(EmployeeChangedEvent.Type.UPDATED, saved);
+        return saved;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public void delete(UUID id, Set<Long> expectedVersions) {
+        // Locked first so nobody can be hired under this employee between the check and the delete.
+        Employee existing = repo.findAllByIdForUpdate(List.of(id)).stream().findFirst()
+                .orElseThrow(() -> CustomResponseException.ResourceNotFound("Employee with id " + id + " not found"));
+        checkVersion(existing, expectedVersions);
+        if (repo.existsByManagerId(id)) {
+            throw stillManages(id);
+        }
+        repo.delete(existing);
+        repo.flush();
+        publish(EmployeeChangedEvent.Type.DELETED, existing);
+    }
+
+    /**
+     * Applies the same change to every employee matching the filter. Matching rows are locked as
+     * their ids are read, as in {@link #deleteAll}, so a concurrent edit cannot move one out of the
+     * filter before it is changed. They are then updated with one set-based UPDATE per
+     * {@value #BULK_CHUNK_SIZE} ids; each chunk is read back so the change feed and the stats still
+     * get one event per employee.
+     */
+    @Override
+    public int updateAll(EmployeeBulkUpdate request) {
+        EmployeeBulkUpdate.Filter filter = request.filter();
+        if (filter.isEmpty()) {
+            throw CustomResponseException.BadRequest("filter must set at least one of position, hiredFrom, hiredTo or ids");
+        }
+        if (request.salaryChangePercent() == null && request.newPosition() == null) {
+            throw CustomResponseException.BadRequest("Nothing to change: set salaryChangePercent and/or newPosition");
+        }
+        BigDecimal salaryFactor = request.salaryChangePercent() == null ? null
+                : BigDecimal.ONE.add(request.salaryChangePercent().movePointLeft(2));
+
+        List<UUID> ids = repo.findIdsForUpdate(Specification.allOf(
+                EmployeeSpecifications.hasPosition(filter.position()),
+                EmployeeSpecifications.hiredOnOrAfter(filter.hiredFrom()),
+                EmployeeSpecifications.hiredOnOrBefore(filter.hiredTo()),
+                EmployeeSpecifications.idIn(filter.ids())));
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            updated += repo.updateAll(chunk, salaryFactor, request.newPosition());
+            List<Employee> changed = repo.findAllById(chunk);
+            changed.forEach(employee -> publish(EmployeeChangedEvent.Type.UPDATED, employee));
+            evictAfterCommit(changed);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return updated;
+    }
+
+    /**
+     * Deletes the listed employees with a single DELETE; unknown ids are ignored. The rows are
+     * locked and read first, since each deletion still needs its change-feed entry.
+     */
+    @Override
+    public int deleteAll(List<UUID> ids) {
+        List<Employee> existing = repo.findAllByIdForUpdate(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        if (repo.hasReportsOutside(ids)) {
+            throw CustomResponseException.Conflict("Some of these employees still have direct reports; reassign them first");
+        }
+        int deleted = repo.deleteAllByIds(ids);
+        existing.forEach(employee -> publish(EmployeeChangedEvent.Type.DELETED, employee));
+        evictAfterCommit(existing);
+        return deleted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Employee> directReports(UUID id) {
+        List<Employee> reports = repo.findAllByManagerIdOrderByHireDateAscIdAsc(id);
+        if (reports.isEmpty()) {
+            get(id);
+        }
+        return reports;
+    }
+
+    /**
+     * Everyone below the employee, at any depth, as one index range scan over their paths, paged
+     * by {@code (org_path, id)}: direct reports first, then each of their teams in turn.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage<Employee> subtree(UUID id, String cursor, int limit) {
+        checkPageLimit(limit);
+        String from = OrgPath.childPath(get(id));
+        String to = OrgPath.upperBound(from);
+        Limit window = Limit.of(limit + 1);
+        List<Employee> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repo.findOrgRange(from, to, window);
+        } else {
+            OrgChartCursor after = OrgChartCursor.decode(cursor);
+            if (!after.orgPath().startsWith(from)) {
+                throw CustomResponseException.BadRequest("Invalid cursor");
+            }
+            rows = repo.findOrgRangeAfter(after.orgPath(), after.id(), to, window);
+        }
+        if (rows.size() <= limit) {
+            return new EmployeePage<>(rows, null);
+        }
+        List<Employee> items = rows.subList(0, limit);
+        return new EmployeePage<>(items, OrgChartCursor.of(items.get(limit - 1)).encode());
+    }
+
+    /**
+     * The employee's managers, nearest first, up to the top of the organization. Their ids are all
+     * in the employee's path, so they are fetched by primary key in one query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Employee> managementChain(UUID id) {
+        List<UUID> managerIds = OrgPath.managerIds(get(id).getOrgPath());
+        if (managerIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Employee> managers = repo.findAllById(managerIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        return managerIds.stream().map(managers::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Moves the employee, and everyone below them, under another manager ({@code null} for the top).
+     * The employee's row is updated as usual; the rest of the department is rewritten by a single
+     * set-based UPDATE over its path range. Their visible fields do not change, so they get no
+     * events or new versions.
+     */
+    @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public Employee changeManager(UUID id, UUID managerId, Set<Long> expectedVersions) {
+        Map<UUID, Employee> locked = lockForMove(id, managerId);
+        Employee existing = locked.get(id);
+        checkVersion(existing, expectedVersions);
+        if (Objects.equals(existing.getManagerId(), managerId)) {
+            return existing;
+        }
+        String fromPrefix = OrgPath.childPath(existing);
+        String path = managerId == null ? OrgPath.ROOT : OrgPath.childPath(locked.get(managerId));
+        if (path.startsWith(fromPrefix)) {
+            throw CustomResponseException.BadRequest("Employee " + id + " cannot report to " + managerId
+                    + ", who is the employee or reports to them");
+        }
+        repo.lockOrgRange(fromPrefix, OrgPath.upperBound(fromPrefix));
+        existing.setManagerId(managerId);
+        existing.setOrgPath(path);
+        Employee saved = repo.saveAndFlush(existing);
+        repo.movePaths(fromPrefix, OrgPath.childPath(saved));
+        publish(EmployeeChangedEvent.Type.UPDATED, saved);
+        return saved;
+    }
+
+    /**
+     * Moves every direct report of the employee, with their own teams, under another manager in one
+     * set-based UPDATE, e.g. before the employee leaves. Each direct report gets a new version and
+     * a change-feed entry.
+     */
+    @Override
+    public int reassignReports(UUID id, UUID managerId) {
+        Map<UUID, Employee> locked = lockForMove(id, managerId);
+        String fromPrefix = OrgPath.childPath(locked.get(id));
+        String toPrefix = managerId == null ? OrgPath.ROOT : OrgPath.childPath(locked.get(managerId));
+        if (toPrefix.startsWith(fromPrefix)) {
+            throw CustomResponseException.BadRequest("The reports of " + id + " cannot move under " + managerId
+                    + ", who is that employee or reports to them");
+        }
+        repo.lockOrgRange(fromPrefix, OrgPath.upperBound(fromPrefix));
+        List<UUID> reports = repo.findDirectReportIds(id);
+        if (reports.isEmpty()) {
+            return 0;
+        }
+        repo.reassignReports(id, managerId, fromPrefix, toPrefix);
+        for (int from = 0; from < reports.size(); from += BULK_CHUNK_SIZE) {
+            List<UUID> chunk = reports.subList(from, Math.min(from + BULK_CHUNK_SIZE, reports.size()));
+            List<Employee> moved = repo.findAllById(chunk);
+            moved.forEach(employee -> publish(EmployeeChangedEvent.Type.UPDATED, employee));
+            evictAfterCommit(moved);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return reports.size();
+    }
+
+    /**
+     * Locks the employee and the new manager so neither can move, be deleted or, for the employee,
+     * change concurrently. The paths read here are then current until commit; the subtree itself
+     * is locked by the caller once its range is known.
+     */
+    private Map<UUID, Employee> lockForMove(UUID id, UUID managerId) {
+        List<UUID> ids = managerId == null ? List.of(id) : List.of(id, managerId);
+        Map<UUID, Employee> locked = repo.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        if (!locked.containsKey(id)) {
             throw CustomResponseException.ResourceNotFound("Employee with id " + id + " not found");
         }
-        repo.deleteById(id);
+        if (managerId != null && !locked.containsKey(managerId)) {
+            throw CustomResponseException.BadRequest("Manager " + managerId + " not found");
+        }
+        return locked;
+    }
+
+    private String pathUnder(UUID managerId) {
+        if (managerId == null) {
+            return OrgPath.ROOT;
+        }
+        // Shared lock: the manager cannot be moved or deleted until this employee is committed.
+        return repo.findAllByIdForShare(List.of(managerId)).stream()
+                .findFirst()
+                .map(OrgPath::childPath)
+                .orElseThrow(() -> CustomResponseException.BadRequest("Manager " + managerId + " not found"));
+    }
+
+    static CustomResponseException stillManages(UUID id) {
+        return CustomResponseException.Conflict("Employee with id " + id
+                + " still has direct reports; reassign them first");
+    }
+
+    /**
+     * Evicts the cached copies of rows changed by a set-based write, and only those, so other
+     * tenants' entries survive. It runs after commit, like the annotated evictions, so a concurrent
+     * read cannot cache the old row again in between.
+     */
+    private void evictAfterCommit(List<Employee> employees) {
+        List<Object> keys = employees.stream()
+                .map(employee -> TenantScopedCache.key(employee.getTenantId(), employee.getId()))
+                .toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keys.forEach(employeeCache::evict);
+            }
+        });
+    }
+
+    private void publish(EmployeeChangedEvent.Type type, Employee employee) {
+        events.publishEvent(new EmployeeChangedEvent(type, employee.getId(), employee));
     }
 
-    private void validateEmployee(Employee employee) {
+    static void checkPageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw CustomResponseException.BadRequest("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static List<String> parseFields(String fields) {
+        List<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        if (requested.isEmpty()) {
+            throw CustomResponseException.BadRequest("fields must name at least one of " + EmployeeFieldsRepository.FIELDS);
+        }
+        for (String field : requested) {
+            if (!EmployeeFieldsRepository.FIELDS.contains(field)) {
+                throw CustomResponseException.BadRequest("Unknown field '" + field + "', expected one of "
+                        + EmployeeFieldsRepository.FIELDS);
+            }
+        }
+        return requested;
+    }
+
+    static void checkVersion(Employee existing, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(existing.getVersion())) {
+            throw CustomResponseException.PreconditionFailed(
+                    "Employee with id " + existing.getId() + " has been modified (current version "
+                            + existing.getVersion() + ")");
+        }
+    }
+
+    static void validateEmployee(Employee employee) {
         if (isNullOrBlank(employee.getFirstName())) {
             throw CustomResponseException.BadRequest("First name cannot be null or blank");
         }
@@ -79,7 +544,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
-    private void validateUpdateFields(Employee employee) {
+    static void validateUpdateFields(Employee employee) {
         if (isNullOrBlank(employee.getEmail())) {
             throw CustomResponseException.BadRequest("Email cannot be null or blank");
         }
@@ -94,25 +559,6 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
-    private void validateUniqueConstraints(Employee employee) {
-        if (repo.existsByEmail(employee.getEmail())) {
-            throw CustomResponseException.Conflict("Email " + employee.getEmail() + " is already in use");
-        }
-        if (repo.existsByPhoneNumber(employee.getPhoneNumber())) {
-            throw CustomResponseException.Conflict("Phone number " + employee.getPhoneNumber() + " is already in use");
-        }
-    }
-
-    private void validateUniqueConstraintsForUpdate(Employee existing, Employee updated) {
-        if (!existing.getEmail().equals(updated.getEmail()) && repo.existsByEmail(updated.getEmail())) {
-            throw CustomResponseException.Conflict("Email " + updated.getEmail() + " is already in use");
-        }
-        if (!existing.getPhoneNumber().equals(updated.getPhoneNumber()) &&
-            repo.existsByPhoneNumber(updated.getPhoneNumber())) {
-            throw CustomResponseException.Conflict("Phone number " + updated.getPhoneNumber() + " is already in use");
-        }
-    }
-
     private void updateEmployeeFields(Employee existing, Employee updated) {
         existing.setEmail(updated.getEmail());
         existing.setPosition(updated.getPosition());
@@ -120,7 +566,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         existing.setPhoneNumber(updated.getPhoneNumber());
     }
 
-    private boolean isNullOrBlank(String str) {
+    private static boolean isNullOrBlank(String str) {
         return str == null || str.isBlank();
     }
 }
@@ -0,0 +1,160 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.ReplicaRoutingDataSource;
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory salary and headcount aggregates kept current from committed {@link EmployeeChangedEvent}s,
+ * so stats reads never touch the table. The table is scanned once, on the first read after startup.
+ * <p>
+ * Each employee's last applied version is remembered, which makes events idempotent and lets them
+ * interleave with that scan. Deletes seen during a scan are replayed at its end, because the scan's
+ * snapshot may still return rows deleted after it started. Writers never wait for the scan itself.
+ * <p>
+ * Every tenant has its own aggregates, scan and locks, loaded on its first stats read.
+ */
+@Component
+@ConditionalOnProperty(name = "app.employees.stats.incremental", havingValue = "true")
+public class EmployeeStatsAggregator {
+    private record Entry(String position, int hireYear, BigDecimal salary, long version) {}
+
+    private final EmployeeService employeeService;
+    private final Map<String, TenantStats> tenants = new ConcurrentHashMap<>();
+
+    public EmployeeStatsAggregator(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        TenantStats stats = tenants.get(event.employee().getTenantId());
+        if (stats != null) {
+            stats.onEmployeeChanged(event);
+        }
+    }
+
+    public EmployeeStats snapshot() {
+        return tenants.computeIfAbsent(TenantContext.current(), tenant -> new TenantStats()).snapshot();
+    }
+
+    private final class TenantStats {
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final Map<String, SalaryAccumulator> byPosition = new TreeMap<>();
+        private final Map<Integer, SalaryAccumulator> byHireYear = new TreeMap<>();
+        private final Set<UUID> deletedDuringLoad = new HashSet<>();
+        private boolean loaded;
+        private boolean loading;
+
+        synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+            if (!loaded && !loading) {
+                // The next scan reads committed rows, which already include this change.
+                return;
+            }
+            if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+                removeEmployee(event.employeeId());
+                if (loading) {
+                    deletedDuringLoad.add(event.employeeId());
+                }
+                return;
+            }
+            apply(event.employee());
+        }
+
+        EmployeeStats snapshot() {
+            synchronized (this) {
+                if (loaded) {
+                    return build();
+                }
+            }
+            loadLock.lock();
+            try {
+                synchronized (this) {
+                    if (loaded) {
+                        return build();
+                    }
+                    loading = true;
+                }
+                // A lagging replica could miss changes whose events were skipped above.
+                ReplicaRoutingDataSource.runOnPrimary(() -> employeeService.streamAll(employee -> {
+                    synchronized (this) {
+                        if (!deletedDuringLoad.contains(employee.getId())) {
+                            apply(employee);
+                        }
+                    }
+                }));
+                synchronized (this) {
+                    deletedDuringLoad.forEach(this::removeEmployee);
+                    deletedDuringLoad.clear();
+                    loading = false;
+                    loaded = true;
+                    return build();
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        private EmployeeStats build() {
+            return new EmployeeStats("memory", groups(byPosition, Function.identity()), groups(byHireYear, String::valueOf));
+        }
+
+        private void apply(Employee employee) {
+            long version = employee.getVersion() != null ? employee.getVersion() : 0L;
+            Entry previous = entries.get(employee.getId());
+            if (previous != null && previous.version() >= version) {
+                return;
+            }
+            if (previous != null) {
+                unapply(previous);
+            }
+            Entry entry = new Entry(employee.getPosition(), employee.getHireDate().getYear(), employee.getSalary(), version);
+            entries.put(employee.getId(), entry);
+            byPosition.computeIfAbsent(entry.position(), key -> new SalaryAccumulator()).add(entry.salary());
+            byHireYear.computeIfAbsent(entry.hireYear(), key -> new SalaryAccumulator()).add(entry.salary());
+        }
+
+        private void removeEmployee(UUID employeeId) {
+            Entry removed = entries.remove(employeeId);
+            if (removed != null) {
+                unapply(removed);
+            }
+        }
+
+        private void unapply(Entry entry) {
+            remove(byPosition, entry.position(), entry.salary());
+            remove(byHireYear, entry.hireYear(), entry.salary());
+        }
+    }
+
+    private static <K> void remove(Map<K, SalaryAccumulator> groups, K key, BigDecimal salary) {
+        SalaryAccumulator accumulator = groups.get(key);
+        accumulator.remove(salary);
+        if (accumulator.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private static <K> List<EmployeeStats.Group> groups(Map<K, SalaryAccumulator> groups, Function<K, String> keyName) {
+        return groups.entrySet().stream()
+                .map(entry -> entry.getValue().toGroup(keyName.apply(entry.getKey())))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import com.api.employeemanagementapi.repository.EmployeeRepository;
+import com.api.employeemanagementapi.repository.SalaryStatsRow;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+@Service
+public class EmployeeStatsService {
+    private final EmployeeRepository repo;
+    private final EmployeeStatsAggregator aggregator;
+
+    public EmployeeStatsService(EmployeeRepository repo, ObjectProvider<EmployeeStatsAggregator> aggregator) {
+        this.repo = repo;
+        this.aggregator = aggregator.getIfAvailable();
+    }
+
+    /**
+     * Returns salary and headcount stats from the incremental aggregate when it is enabled, otherwise
+     * with GROUP BY queries. {@code source} forces one or the other ("memory" or "database").
+     */
+    public EmployeeStats stats(String source) {
+        if ("database".equals(source) || (source == null && aggregator == null)) {
+            // Native queries, so the tenant filter Hibernate adds to JPQL has to be spelled out.
+            String tenant = TenantContext.current();
+            return new EmployeeStats("database", toGroups(repo.salaryStatsByPosition(tenant)),
+                    toGroups(repo.salaryStatsByHireYear(tenant)));
+        }
+        if (!"memory".equals(source) && source != null) {
+            throw CustomResponseException.BadRequest("source must be 'memory' or 'database'");
+        }
+        if (aggregator == null) {
+            throw CustomResponseException.BadRequest("Incremental stats are disabled (app.employees.stats.incremental)");
+        }
+        return aggregator.snapshot();
+    }
+
+    private static List<EmployeeStats.Group> toGroups(List<SalaryStatsRow> rows) {
+        return rows.stream()
+                .map(row -> new EmployeeStats.Group(row.getGroupKey(), row.getHeadcount(),
+                        row.getMinSalary(), row.getMaxSalary(), round(row.getAverageSalary()),
+                        round(row.getP50Salary()), round(row.getP90Salary()), round(row.getP99Salary())))
+                .toList();
+    }
+
+    private static BigDecimal round(BigDecimal value) {
+        return value == null ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
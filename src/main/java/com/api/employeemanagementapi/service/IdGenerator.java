@@ -0,0 +1,16 @@
+package com.api.employeemanagementapi.service;
+
+import java.util.UUID;
+
+/**
+ * Source of primary keys for new rows. Selected with {@code app.ids.uuid-version} (see
+ * {@code IdGeneratorConfig}).
+ */
+@FunctionalInterface
+public interface IdGenerator {
+    UUID next();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,132 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.IdempotencyProperties;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of requests sent with an {@code Idempotency-Key}, so a client retry gets
+ * the original response back instead of running the write again. The first request for a key
+ * registers a future before doing the work; duplicates arriving meanwhile wait on that future
+ * rather than executing. Failed requests are forgotten, so they can be retried for real.
+ * <p>
+ * Keys are scoped by operation, tenant and caller, and bound to a fingerprint of the request body: the
+ * same key with a different body is rejected with 422. Entries live in memory on this instance,
+ * bounded by {@code app.idempotency.max-entries} and dropped after {@code app.idempotency.ttl}.
+ */
+@Component
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    public record Outcome<T>(T value, boolean replayed) {}
+
+    private record Entry(String fingerprint, CompletableFuture<Object> response) {}
+
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Cache<String, Entry> entries;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyStore(ObjectMapper objectMapper, IdempotencyProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, entries, "idempotency",
+                Tags.of("cache.manager", "idempotencyStore", "name", "idempotency"));
+        this.executed = registry.counter("idempotency.requests", "outcome", "executed");
+        this.replayed = registry.counter("idempotency.requests", "outcome", "replayed");
+        this.rejected = registry.counter("idempotency.requests", "outcome", "rejected");
+    }
+
+    public static String scope(String operation, Principal principal) {
+        return operation + ":" + TenantContext.current() + ":" + (principal != null ? principal.getName() : "anonymous");
+    }
+
+    /**
+     * Runs {@code action} once per {@code key} within {@code scope} and returns its result, or the
+     * result of the earlier run when the key has been seen. Without a key it simply runs.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Outcome<T> execute(String scope, String key, Object request, Supplier<T> action) {
+        if (key == null) {
+            return new Outcome<>(action.get(), false);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw CustomResponseException.BadRequest(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = scope + "|" + key;
+        Entry mine = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(id, mine);
+        if (existing == null) {
+            executed.increment();
+            try {
+                T value = action.get();
+                mine.response().complete(value);
+                return new Outcome<>(value, false);
+            } catch (RuntimeException ex) {
+                entries.asMap().remove(id, mine);
+                mine.response().completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        if (!existing.fingerprint().equals(mine.fingerprint())) {
+            rejected.increment();
+            throw CustomResponseException.UnprocessableEntity(
+                    HEADER + " was already used for a different request");
+        }
+        replayed.increment();
+        return new Outcome<>((T) await(existing.response()), true);
+    }
+
+    private Object await(CompletableFuture<Object> response) {
+        try {
+            return response.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw CustomResponseException.Conflict("A request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException ex) {
+            // The original failed; its caller got the error and the key is free again.
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw CustomResponseException.ServiceUnavailable("Interrupted while waiting for the original request");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Cannot fingerprint request", ex);
+        }
+    }
+}
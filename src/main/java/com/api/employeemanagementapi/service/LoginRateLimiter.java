@@ -0,0 +1,137 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.LoginRateLimitProperties;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.api.employeemanagementapi.shared.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client-IP and per-username token buckets in front of the login endpoint, so password hashing
+ * only runs for attempts within budget. Buckets live in a {@link ConcurrentHashMap} bounded by
+ * {@code max-buckets}: full buckets are dropped on every sweep, since they carry no state. If that
+ * is not enough, client-IP buckets are evicted before username buckets, and the fullest first, so
+ * flooding the map from many addresses cannot reset the limit of a username under attack.
+ */
+@Component
+public class LoginRateLimiter {
+    private static final String IP_PREFIX = "ip:";
+    private static final String USER_PREFIX = "user:";
+
+    private final LoginRateLimitProperties properties;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final Counter admitted;
+    private final Counter limitedByIp;
+    private final Counter limitedByUsername;
+    private final Counter evictedIdle;
+    private final Counter evictedOverflow;
+
+    @Autowired
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry registry, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.admitted = registry.counter("auth.login.rate.limit", "outcome", "admitted", "limited.by", "none");
+        this.limitedByIp = registry.counter("auth.login.rate.limit", "outcome", "limited", "limited.by", "ip");
+        this.limitedByUsername = registry.counter("auth.login.rate.limit", "outcome", "limited", "limited.by", "username");
+        this.evictedIdle = registry.counter("auth.login.rate.limit.evicted", "reason", "idle");
+        this.evictedOverflow = registry.counter("auth.login.rate.limit.evicted", "reason", "overflow");
+        registry.gaugeMapSize("auth.login.rate.limit.buckets", Tags.empty(), buckets);
+    }
+
+    /**
+     * Consumes one attempt from the client's and the username's bucket, or throws a 429 carrying
+     * the time until the exhausted bucket has a token again.
+     */
+    public void acquire(String username, String clientIp) {
+        if (buckets.size() > properties.maxBuckets()) {
+            // Trim below the bound so a flood of new keys sweeps once per batch, not once per attempt.
+            sweep(properties.maxBuckets() - properties.maxBuckets() / 10);
+        }
+        long now = clock.getAsLong();
+        long waitNanos = bucket(IP_PREFIX + clientIp, properties.ip(), now).tryAcquire(now);
+        if (waitNanos > 0) {
+            limitedByIp.increment();
+            throw limited(waitNanos);
+        }
+        waitNanos = bucket(USER_PREFIX + TenantContext.current() + ":" + username, properties.username(), now).tryAcquire(now);
+        if (waitNanos > 0) {
+            limitedByUsername.increment();
+            throw limited(waitNanos);
+        }
+        admitted.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.login-rate-limit.sweep-interval}")
+    public void sweep() {
+        sweep(properties.maxBuckets());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void sweep(int target) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            buckets.forEach((key, bucket) -> {
+                if (bucket.isFull(now) && buckets.remove(key, bucket)) {
+                    evictedIdle.increment();
+                }
+            });
+            if (buckets.size() > target) {
+                evictOverflow(target, now);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void evictOverflow(int target, long now) {
+        record Candidate(String key, TokenBucket bucket, boolean username, double fill) {}
+        List<Candidate> candidates = new ArrayList<>(buckets.size());
+        buckets.forEach((key, bucket) ->
+                candidates.add(new Candidate(key, bucket, key.startsWith(USER_PREFIX), bucket.fill(now))));
+        candidates.sort(Comparator.comparing(Candidate::username)
+                .thenComparing(Comparator.comparingDouble(Candidate::fill).reversed()));
+        for (Candidate candidate : candidates) {
+            if (buckets.size() <= target) {
+                return;
+            }
+            if (buckets.remove(candidate.key(), candidate.bucket())) {
+                evictedOverflow.increment();
+            }
+        }
+    }
+
+    private TokenBucket bucket(String key, LoginRateLimitProperties.Bucket limit, long now) {
+        TokenBucket bucket = buckets.get(key);
+        return bucket != null ? bucket
+                : buckets.computeIfAbsent(key, k -> new TokenBucket(limit.capacity(), limit.period().toNanos(), now));
+    }
+
+    private static TooManyRequestsException limited(long waitNanos) {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException("Too many login attempts, retry in " + retryAfter + "s", retryAfter);
+    }
+}
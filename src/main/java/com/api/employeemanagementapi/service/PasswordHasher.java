@@ -0,0 +1,123 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.PasswordHashingProperties;
+import com.api.employeemanagementapi.entity.UserAccount;
+import com.api.employeemanagementapi.repository.UserAccountRepository;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing on a small dedicated pool rather than on request threads, so at most
+ * {@code hashing-threads} hashes compete for CPU at once. Beyond that, callers queue up to
+ * {@code hashing-queue-capacity} deep and are then refused with 503 instead of piling onto the CPU.
+ * Queue depth, active threads and task timings are published under {@code password.hashing}.
+ */
+@Component
+public class PasswordHasher {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final PasswordEncoder encoder;
+    private final UserAccountRepository userRepository;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Counter rehashed;
+    private final Counter rehashSkipped;
+    private final Counter rehashFailed;
+
+    public PasswordHasher(PasswordEncoder encoder, UserAccountRepository userRepository,
+                          PasswordHashingProperties properties, MeterRegistry registry) {
+        this.encoder = encoder;
+        this.userRepository = userRepository;
+        int threads = properties.hashingThreads() > 0
+                ? properties.hashingThreads() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.hashingQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory());
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, "password.hashing");
+        this.rehashed = registry.counter("password.rehash", "outcome", "updated");
+        this.rehashSkipped = registry.counter("password.rehash", "outcome", "skipped");
+        this.rehashFailed = registry.counter("password.rehash", "outcome", "failed");
+    }
+
+    public String encode(String rawPassword) {
+        return call(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Re-encodes the password just verified for {@code user} in the background when its stored hash
+     * uses another algorithm or a lower cost than configured. The update only applies while the
+     * stored hash is unchanged, so a concurrent password change wins; a full queue skips the rehash
+     * until the next login.
+     */
+    public void rehashIfNeeded(UserAccount user, String rawPassword) {
+        String current = user.getPassword();
+        if (!encoder.upgradeEncoding(current)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String hash = encoder.encode(rawPassword);
+                    int updated = TenantContext.call(user.getTenantId(),
+                            () -> userRepository.updatePassword(user.getId(), current, hash));
+                    if (updated == 1) {
+                        rehashed.increment();
+                    } else {
+                        rehashSkipped.increment();
+                    }
+                } catch (RuntimeException ex) {
+                    rehashFailed.increment();
+                    log.warn("Could not rehash password of user {}", user.getId(), ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rehashSkipped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw CustomResponseException.ServiceUnavailable("Too many password checks in progress, retry shortly");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
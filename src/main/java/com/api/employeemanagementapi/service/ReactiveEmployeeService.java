@@ -0,0 +1,319 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.CacheConfig;
+import com.api.employeemanagementapi.config.TenantProperties;
+import com.api.employeemanagementapi.config.TenantScopedCache;
+import com.api.employeemanagementapi.dtos.EmployeeCursor;
+import com.api.employeemanagementapi.dtos.EmployeePage;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.OrgPath;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The employee operations behind {@code /v2/employees}, on R2DBC: no thread waits on the database.
+ * Validation is shared with {@link EmployeeServiceImpl}, and every write stores its change-feed
+ * entry in the same transaction, exactly as the JPA path does. After commit the entity cache, the
+ * list cache and the stats aggregate are told about the change directly, since the JPA event
+ * listeners only see changes made through {@code EmployeeServiceImpl}.
+ * <p>
+ * Hibernate's tenant filter does not reach this SQL, so every statement names the tenant captured
+ * on the calling thread, and dedicated tenants' tables are qualified with their schema.
+ */
+@Service
+public class ReactiveEmployeeService {
+    private static final String COLUMNS =
+            "id, first_name, last_name, email, phone_number, position, salary, hire_date, manager_id, org_path, tenant_id, version";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient db;
+    private final TransactionalOperator transactions;
+    private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final Cache employeeCache;
+    private final EmployeeListCache listCache;
+    private final EmployeeStatsAggregator aggregator;
+    private final TenantProperties tenants;
+
+    public ReactiveEmployeeService(DatabaseClient db, TransactionalOperator transactions, ObjectMapper objectMapper,
+                                   IdGenerator idGenerator, CacheManager cacheManager,
+                                   ObjectProvider<EmployeeListCache> listCache,
+                                   ObjectProvider<EmployeeStatsAggregator> aggregator, TenantProperties tenants) {
+        this.db = db;
+        this.transactions = transactions;
+        this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.employeeCache = cacheManager.getCache(CacheConfig.EMPLOYEES);
+        this.listCache = listCache.getIfAvailable();
+        this.aggregator = aggregator.getIfAvailable();
+        this.tenants = tenants;
+    }
+
+    public Mono<List<Employee>> all() {
+        String tenant = TenantContext.current();
+        return db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant")
+                .bind("tenant", tenant)
+                .map(ReactiveEmployeeService::toEmployee)
+                .all()
+                .collectList();
+    }
+
+    /**
+     * Streams every employee in {@code (hire_date, id)} order. Rows are fetched from the server
+     * {@value #STREAM_FETCH_SIZE} at a time as the subscriber asks for them, so a slow client holds
+     * back the query instead of filling the heap.
+     */
+    public Flux<Employee> streamAll() {
+        String tenant = TenantContext.current();
+        return db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant"
+                        + " order by hire_date, id")
+                .bind("tenant", tenant)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(ReactiveEmployeeService::toEmployee)
+                .all()
+                .as(transactions::transactional);
+    }
+
+    public Mono<EmployeePage<Employee>> page(String cursor, int limit) {
+        EmployeeServiceImpl.checkPageLimit(limit);
+        String tenant = TenantContext.current();
+        DatabaseClient.GenericExecuteSpec query;
+        if (cursor == null || cursor.isBlank()) {
+            query = db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant"
+                    + " order by hire_date, id limit :limit");
+        } else {
+            EmployeeCursor after = EmployeeCursor.decode(cursor);
+            query = db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant"
+                            + " and (hire_date > :hireDate or (hire_date = :hireDate and id > :id))"
+                            + " order by hire_date, id limit :limit")
+                    .bind("hireDate", after.hireDate())
+                    .bind("id", after.id());
+        }
+        // Fetch one extra row to learn whether another page exists without a count query.
+        return query.bind("tenant", tenant)
+                .bind("limit", limit + 1)
+                .map(ReactiveEmployeeService::toEmployee)
+                .all()
+                .collectList()
+                .map(rows -> rows.size() <= limit
+                        ? new EmployeePage<>(rows, null)
+                        : new EmployeePage<>(rows.subList(0, limit), EmployeeCursor.of(rows.get(limit - 1)).encode()));
+    }
+
+    public Mono<Employee> get(UUID id) {
+        String tenant = TenantContext.current();
+        Employee cached = employeeCache.get(TenantScopedCache.key(tenant, id), Employee.class);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return find(tenant, id, false);
+    }
+
+    public Mono<Employee> create(Employee employee) {
+        String tenant = TenantContext.current();
+        return Mono.fromCallable(() -> {
+                    EmployeeServiceImpl.validateEmployee(employee);
+                    employee.setId(idGenerator.next());
+                    employee.setTenantId(tenant);
+                    employee.setVersion(0L);
+                    return employee;
+                })
+                .flatMap(toInsert -> pathUnder(tenant, toInsert.getManagerId()).map(path -> {
+                    toInsert.setOrgPath(path);
+                    return toInsert;
+                }))
+                .flatMap(toInsert -> db.sql("insert into " + employees(tenant) + " (" + COLUMNS + ") values (:id,"
+                                + " :firstName, :lastName, :email, :phoneNumber, :position, :salary, :hireDate, :managerId,"
+                                + " :orgPath, :tenant, :version)")
+                        .bind("id", toInsert.getId())
+                        .bind("firstName", toInsert.getFirstName())
+                        .bind("lastName", toInsert.getLastName())
+                        .bind("email", toInsert.getEmail())
+                        .bind("phoneNumber", toInsert.getPhoneNumber())
+                        .bind("position", toInsert.getPosition())
+                        .bind("salary", toInsert.getSalary())
+                        .bind("hireDate", toInsert.getHireDate())
+                        .bind("managerId", Parameter.fromOrEmpty(toInsert.getManagerId(), UUID.class))
+                        .bind("orgPath", toInsert.getOrgPath())
+                        .bind("tenant", tenant)
+                        .bind("version", toInsert.getVersion())
+                        .then()
+                        .then(recordChange(EmployeeChangedEvent.Type.CREATED, toInsert))
+                        .thenReturn(toInsert))
+                .as(transactions::transactional)
+                .doOnSuccess(created -> committed(EmployeeChangedEvent.Type.CREATED, created));
+    }
+
+    public Mono<Employee> update(UUID id, Employee employee, Set<Long> expectedVersions) {
+        return modify(id, expectedVersions, existing -> {
+            EmployeeServiceImpl.validateUpdateFields(employee);
+            existing.setEmail(employee.getEmail());
+            existing.setPosition(employee.getPosition());
+            existing.setSalary(employee.getSalary());
+            existing.setPhoneNumber(employee.getPhoneNumber());
+        });
+    }
+
+    public Mono<Employee> patch(UUID id, EmployeePatch patch, Set<Long> expectedVersions) {
+        return modify(id, expectedVersions, existing -> {
+            patch.applyPartially(existing);
+            EmployeeServiceImpl.validateUpdateFields(existing);
+        });
+    }
+
+    public Mono<Void> delete(UUID id, Set<Long> expectedVersions) {
+        String tenant = TenantContext.current();
+        return find(tenant, id, true)
+                .flatMap(existing -> {
+                    EmployeeServiceImpl.checkVersion(existing, expectedVersions);
+                    return db.sql("select count(*) from " + employees(tenant) + " where tenant_id = :tenant"
+                                    + " and manager_id = :id")
+                            .bind("tenant", tenant)
+                            .bind("id", id)
+                            .map(row -> row.get(0, Long.class))
+                            .one()
+                            .filter(reports -> reports == 0)
+                            .switchIfEmpty(Mono.error(() -> EmployeeServiceImpl.stillManages(id)))
+                            .then(db.sql("delete from " + employees(tenant) + " where tenant_id = :tenant and id = :id")
+                                    .bind("tenant", tenant)
+                                    .bind("id", id)
+                                    .then())
+                            .then(recordChange(EmployeeChangedEvent.Type.DELETED, existing))
+                            .thenReturn(existing);
+                })
+                .as(transactions::transactional)
+                .doOnSuccess(deleted -> committed(EmployeeChangedEvent.Type.DELETED, deleted))
+                .then();
+    }
+
+    private Mono<Employee> modify(UUID id, Set<Long> expectedVersions, Consumer<Employee> change) {
+        String tenant = TenantContext.current();
+        return find(tenant, id, true)
+                .flatMap(existing -> {
+                    EmployeeServiceImpl.checkVersion(existing, expectedVersions);
+                    long version = existing.getVersion();
+                    change.accept(existing);
+                    existing.setVersion(version + 1);
+                    return db.sql("update " + employees(tenant) + " set email = :email, phone_number = :phoneNumber,"
+                                    + " position = :position, salary = :salary, version = :newVersion"
+                                    + " where tenant_id = :tenant and id = :id and version = :version")
+                            .bind("email", existing.getEmail())
+                            .bind("phoneNumber", existing.getPhoneNumber())
+                            .bind("position", existing.getPosition())
+                            .bind("salary", existing.getSalary())
+                            .bind("newVersion", version + 1)
+                            .bind("tenant", tenant)
+                            .bind("id", id)
+                            .bind("version", version)
+                            .fetch()
+                            .rowsUpdated()
+                            .flatMap(updated -> updated == 1
+                                    ? recordChange(EmployeeChangedEvent.Type.UPDATED, existing).thenReturn(existing)
+                                    : Mono.error(new OptimisticLockingFailureException("Employee " + id + " was modified")));
+                })
+                .as(transactions::transactional)
+                .doOnSuccess(updated -> committed(EmployeeChangedEvent.Type.UPDATED, updated));
+    }
+
+    // Shared lock, as on the JPA path: the manager cannot move or be deleted before this insert commits.
+    private Mono<String> pathUnder(String tenant, UUID managerId) {
+        if (managerId == null) {
+            return Mono.just(OrgPath.ROOT);
+        }
+        return db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant and id = :id"
+                        + " for share")
+                .bind("tenant", tenant)
+                .bind("id", managerId)
+                .map(ReactiveEmployeeService::toEmployee)
+                .one()
+                .map(OrgPath::childPath)
+                .switchIfEmpty(Mono.error(() -> CustomResponseException.BadRequest("Manager " + managerId + " not found")));
+    }
+
+    private Mono<Employee> find(String tenant, UUID id, boolean forUpdate) {
+        return db.sql("select " + COLUMNS + " from " + employees(tenant) + " where tenant_id = :tenant and id = :id"
+                        + (forUpdate ? " for update" : ""))
+                .bind("tenant", tenant)
+                .bind("id", id)
+                .map(ReactiveEmployeeService::toEmployee)
+                .one()
+                .switchIfEmpty(Mono.error(() -> CustomResponseException.ResourceNotFound(
+                        "Employee with id " + id + " not found")));
+    }
+
+    // Same outbox row as EmployeeChangeService.record writes for the JPA path.
+    private Mono<Void> recordChange(EmployeeChangedEvent.Type type, Employee employee) {
+        DatabaseClient.GenericExecuteSpec insert = db.sql("insert into employee_changes"
+                        + " (id, employee_id, type, version, changed_at, payload, tenant_id)"
+                        + " values (nextval('employee_changes_id_seq'), :employeeId, :type, :version, :changedAt, :payload,"
+                        + " :tenant)")
+                .bind("employeeId", employee.getId())
+                .bind("type", type.name())
+                .bind("version", employee.getVersion())
+                .bind("changedAt", Instant.now())
+                .bind("tenant", employee.getTenantId());
+        insert = type == EmployeeChangedEvent.Type.DELETED
+                ? insert.bindNull("payload", String.class)
+                : insert.bind("payload", toJson(employee));
+        return insert.then();
+    }
+
+    private void committed(EmployeeChangedEvent.Type type, Employee employee) {
+        EmployeeChangedEvent event = new EmployeeChangedEvent(type, employee.getId(), employee);
+        Object key = TenantScopedCache.key(employee.getTenantId(), employee.getId());
+        if (type == EmployeeChangedEvent.Type.DELETED) {
+            employeeCache.evict(key);
+        } else {
+            employeeCache.put(key, employee);
+        }
+        if (listCache != null) {
+            listCache.onEmployeeChanged(event);
+        }
+        if (aggregator != null) {
+            aggregator.onEmployeeChanged(event);
+        }
+    }
+
+    private String toJson(Employee employee) {
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize employee " + employee.getId(), ex);
+        }
+    }
+
+    private static Employee toEmployee(Readable row) {
+        return new Employee(row.get("id", UUID.class), row.get("first_name", String.class),
+                row.get("last_name", String.class), row.get("email", String.class),
+                row.get("phone_number", String.class), row.get("position", String.class),
+                row.get("salary", BigDecimal.class), row.get("hire_date", LocalDate.class),
+                row.get("manager_id", UUID.class), row.get("org_path", String.class), row.get("tenant_id", String.class),
+                row.get("version", Long.class));
+    }
+
+    private String employees(String tenant) {
+        String schema = tenants.schemaOf(tenant);
+        return schema != null ? schema + ".employees" : "employees";
+    }
+}
@@ -0,0 +1,63 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running salary distribution for one stats group. Salaries are kept as a sorted multiset so that
+ * removals stay exact and percentiles use the same linear interpolation as {@code percentile_cont}.
+ */
+class SalaryAccumulator {
+    private final TreeMap<BigDecimal, Integer> salaries = new TreeMap<>();
+    private long count;
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    void add(BigDecimal salary) {
+        salaries.merge(salary, 1, Integer::sum);
+        count++;
+        sum = sum.add(salary);
+    }
+
+    void remove(BigDecimal salary) {
+        salaries.computeIfPresent(salary, (key, n) -> n == 1 ? null : n - 1);
+        count--;
+        sum = sum.subtract(salary);
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    EmployeeStats.Group toGroup(String key) {
+        return new EmployeeStats.Group(key, count, scaled(salaries.firstKey()), scaled(salaries.lastKey()),
+                sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP),
+                percentile(0.5), percentile(0.9), percentile(0.99));
+    }
+
+    private BigDecimal percentile(double fraction) {
+        double rank = fraction * (count - 1);
+        long lower = (long) Math.floor(rank);
+        BigDecimal low = valueAt(lower);
+        BigDecimal high = valueAt((long) Math.ceil(rank));
+        return scaled(low.add(high.subtract(low).multiply(BigDecimal.valueOf(rank - lower))));
+    }
+
+    // Freshly written entities keep the scale they were submitted with, unlike rows read back.
+    private static BigDecimal scaled(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal valueAt(long index) {
+        long seen = 0;
+        for (Map.Entry<BigDecimal, Integer> entry : salaries.entrySet()) {
+            seen += entry.getValue();
+            if (index < seen) {
+                return entry.getKey();
+            }
+        }
+        return salaries.lastKey();
+    }
+}
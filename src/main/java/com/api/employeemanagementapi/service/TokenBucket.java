@@ -0,0 +1,56 @@
+package com.api.employeemanagementapi.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the token count and its timestamp are swapped together with a single
+ * compare-and-set, and refill is computed lazily from the elapsed time on each attempt.
+ */
+class TokenBucket {
+    private record State(double tokens, long updatedNanos) {}
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, long periodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = capacity / (double) periodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Takes one token and returns 0, or returns how many nanoseconds remain until one is available.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, nowNanos);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.updatedNanos())))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A full bucket is indistinguishable from a new one, so dropping it loses no state.
+     */
+    boolean isFull(long nowNanos) {
+        return available(state.get(), nowNanos) >= capacity;
+    }
+
+    /**
+     * The share of the capacity currently available, from 0 (exhausted) to 1 (full).
+     */
+    double fill(long nowNanos) {
+        return available(state.get(), nowNanos) / capacity;
+    }
+
+    private double available(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
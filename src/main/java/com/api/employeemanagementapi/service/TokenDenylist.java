@@ -0,0 +1,73 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.TokenProperties;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token ids revoked before their expiry. Each entry expires together with its token and is never
+ * evicted earlier. At most {@code app.security.token.denylist-capacity} are kept; once that many
+ * are live, further revocations fail with 503 rather than letting a revoked token become valid
+ * again.
+ */
+@Component
+public class TokenDenylist implements OAuth2TokenValidator<Jwt> {
+    private static final OAuth2Error REVOKED = new OAuth2Error("invalid_token", "Token has been revoked", null);
+
+    private final Clock clock;
+    private final int capacity;
+    private final Cache<String, Instant> revoked;
+
+    @Autowired
+    public TokenDenylist(TokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    TokenDenylist(TokenProperties properties, Clock clock) {
+        this.clock = clock;
+        this.capacity = properties.denylistCapacity();
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((String tokenId, Instant expiresAt) ->
+                        Duration.between(clock.instant(), expiresAt)))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant()) || revoked.getIfPresent(tokenId) != null) {
+            return;
+        }
+        if (size() >= capacity) {
+            throw CustomResponseException.ServiceUnavailable("Too many revoked tokens, retry later");
+        }
+        revoked.put(tokenId, expiresAt);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.getIfPresent(tokenId) != null;
+    }
+
+    long size() {
+        revoked.cleanUp();
+        return revoked.estimatedSize();
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt token) {
+        return isRevoked(token.getId())
+                ? OAuth2TokenValidatorResult.failure(REVOKED)
+                : OAuth2TokenValidatorResult.success();
+    }
+}
@@ -0,0 +1,54 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.TokenProperties;
+import com.api.employeemanagementapi.dtos.LoginResponse;
+import com.api.employeemanagementapi.entity.UserAccount;
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class TokenService {
+    public static final String ROLE_CLAIM = "role";
+    public static final String TENANT_CLAIM = "tenant";
+    public static final String USERNAME_CLAIM = "username";
+
+    private final JwtEncoder encoder;
+    private final TokenDenylist denylist;
+    private final TokenProperties properties;
+
+    public TokenService(JwtEncoder encoder, TokenDenylist denylist, TokenProperties properties) {
+        this.encoder = encoder;
+        this.denylist = denylist;
+        this.properties = properties;
+    }
+
+    public LoginResponse issue(UserAccount user) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
+                .issuer(properties.issuer())
+                .subject(user.getId().toString())
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(ROLE_CLAIM, user.getRole())
+                .claim(TENANT_CLAIM, Objects.requireNonNullElse(user.getTenantId(), TenantContext.DEFAULT))
+                .issuedAt(now)
+                .expiresAt(now.plus(properties.ttl()))
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new LoginResponse(token, "Bearer", properties.ttl().toSeconds());
+    }
+
+    public void revoke(Jwt token) {
+        denylist.revoke(token.getId(), token.getExpiresAt());
+    }
+}
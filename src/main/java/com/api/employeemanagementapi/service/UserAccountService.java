@@ -4,29 +4,36 @@ import com.api.employeemanagementapi.entity.Employee;
 import com.api.employeemanagementapi.entity.UserAccount;
 import com.api.employeemanagementapi.repository.UserAccountRepository;
 import com.api.employeemanagementapi.shared.CustomResponseException;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed(value = "user.account.service", histogram = true, percentiles = {0.5, 0.95, 0.99})
 @Transactional
 public class UserAccountService {
     private final UserAccountRepository userAccountRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final IdGenerator idGenerator;
 
     @Autowired
-    public UserAccountService(UserAccountRepository userAccountRepository, PasswordEncoder passwordEncoder) {
+    public UserAccountService(UserAccountRepository userAccountRepository, PasswordHasher passwordHasher,
+                              IdGenerator idGenerator) {
         this.userAccountRepository = userAccountRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.idGenerator = idGenerator;
     }
 
+    @Transactional(readOnly = true)
     public List<UserAccount> getAllUsers() {
         return userAccountRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public UserAccount getUserById(UUID id) {
         return userAccountRepository.findById(id)
                 .orElseThrow(() -> CustomResponseException.ResourceNotFound(
@@ -38,15 +45,16 @@ public class UserAccountService {
             throw CustomResponseException.Conflict("Username already exists");
         }
 
-        userAccount.setId(UUID.randomUUID());
-        userAccount.setPassword(passwordEncoder.encode(userAccount.getPassword()));
+        userAccount.setId(idGenerator.next());
+        userAccount.setPassword(passwordHasher.encode(userAccount.getPassword()));
         userAccount.setEmployee(employee);
 
         if (userAccount.getRole() == null || userAccount.getRole().isEmpty()) {
             userAccount.setRole("USER");
         }
 
-        return userAccountRepository.save(userAccount);
+        // One account per employee is enforced by the table; a second one surfaces as a 409.
+        return userAccountRepository.saveAndFlush(userAccount);
     }
 
     public UserAccount updateUser(UUID id, UserAccount userAccount) {
@@ -59,7 +67,7 @@ public class UserAccountService {
 
         existingUser.setUsername(userAccount.getUsername());
         if (userAccount.getPassword() != null && !userAccount.getPassword().isEmpty()) {
-            existingUser.setPassword(passwordEncoder.encode(userAccount.getPassword()));
+            existingUser.setPassword(passwordHasher.encode(userAccount.getPassword()));
         }
         if (userAccount.getRole() != null && !userAccount.getRole().isEmpty()) {
             existingUser.setRole(userAccount.getRole());
@@ -75,6 +83,7 @@ public class UserAccountService {
         userAccountRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public UserAccount findByUsername(String username) {
         UserAccount user = userAccountRepository.findByUsername(username);
         if (user == null) {
@@ -83,7 +92,8 @@ public class UserAccountService {
         return user;
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean verifyPassword(UserAccount user, String rawPassword) {
-        return passwordEncoder.matches(rawPassword, user.getPassword());
+        return passwordHasher.matches(rawPassword, user.getPassword());
     }
 }
@@ -0,0 +1,51 @@
+package com.api.employeemanagementapi.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp, a 12-bit counter and 62 random
+ * bits, so new keys land at the right edge of the primary-key index instead of anywhere in it.
+ * <p>
+ * Timestamp and counter advance together in one {@link AtomicLong}, which makes ids from one
+ * generator strictly increasing across threads, within a millisecond and across clock steps back;
+ * more than 4096 ids in a millisecond borrow from the next one. The random bits come from
+ * {@link ThreadLocalRandom}: they keep instances apart, they are not meant to be unguessable.
+ */
+public class UuidV7Generator implements IdGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    // Unix millis << COUNTER_BITS | counter of the last id handed out.
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long tick;
+        long last;
+        do {
+            last = lastTick.get();
+            tick = Math.max(last + 1, now);
+        } while (!lastTick.compareAndSet(last, tick));
+
+        long millis = tick >>> COUNTER_BITS;
+        long counter = tick & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = millis << 16 | VERSION | counter;
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
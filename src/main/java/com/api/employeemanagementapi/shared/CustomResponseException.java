@@ -18,6 +18,18 @@ public class CustomResponseException extends RuntimeException{
     public static CustomResponseException Conflict(String message) {
         return new CustomResponseException(409, message);
     }
+    public static CustomResponseException Gone(String message) {
+        return new CustomResponseException(410, message);
+    }
+    public static CustomResponseException PreconditionFailed(String message) {
+        return new CustomResponseException(412, message);
+    }
+    public static CustomResponseException UnprocessableEntity(String message) {
+        return new CustomResponseException(422, message);
+    }
+    public static CustomResponseException ServiceUnavailable(String message) {
+        return new CustomResponseException(503, message);
+    }
     public static CustomResponseException InternalServerError(String message) {
         return new CustomResponseException(500, message);
     }
@@ -0,0 +1,40 @@
+package com.api.employeemanagementapi.shared;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Strong entity tags derived from an entity's optimistic-lock version.
+ */
+public final class ETags {
+    private ETags() {}
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the versions named by an {@code If-Match} header, or {@code null} when the header is
+     * absent or {@code *}, in which case the write is unconditional. If-Match compares strongly
+     * (RFC 9110, section 13.1.1), so weak tags never match; a header without a single usable tag
+     * yields an empty set, which no version matches.
+     */
+    public static Set<Long> parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String member : header.split(",")) {
+            String tag = member.trim();
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.valueOf(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException ex) {
+                // Not one of ours, so it cannot match either.
+            }
+        }
+        return versions;
+    }
+}
@@ -1,20 +1,33 @@
 package com.api.employeemanagementapi.shared;
 
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.UserAccount;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionResponse {
-
+    private static final Map<String, String> CONSTRAINT_MESSAGES = Map.of(
+            Employee.EMAIL_CONSTRAINT, "Email is already in use",
+            Employee.PHONE_NUMBER_CONSTRAINT, "Phone number is already in use",
+            UserAccount.EMPLOYEE_CONSTRAINT, "Employee already has an account"
+    );
 
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<GlobalResponse<?>> handleNoResourceFoundException(NoResourceFoundException ex) {
@@ -28,6 +41,14 @@ public class GlobalExceptionResponse {
         return new ResponseEntity<>(new GlobalResponse<>(errors), HttpStatus.valueOf(ex.getCode()) );
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<GlobalResponse<?>> handleTooManyRequests(TooManyRequestsException ex) {
+        var errors = List.of(new GlobalResponse.ErrorItem(ex.getMessage()));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new GlobalResponse<>(errors));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
      public ResponseEntity<GlobalResponse<?>> handleBodyValidation(MethodArgumentNotValidException ex) {
         var errors = ex.getBindingResult().getFieldErrors().stream()
@@ -50,12 +71,56 @@ public class GlobalExceptionResponse {
         return ResponseEntity.badRequest().body(new GlobalResponse<>(errors));
     }
 
+    @ExceptionHandler(PropertyReferenceException.class)
+    public ResponseEntity<GlobalResponse<?>> handleUnknownProperty(PropertyReferenceException ex) {
+        var errors = List.of(new GlobalResponse.ErrorItem("Unknown sort property: " + ex.getPropertyName()));
+        return ResponseEntity.badRequest().body(new GlobalResponse<>(errors));
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<GlobalResponse<?>> handleConflict(DataIntegrityViolationException ex) {
-        var errors = List.of(new GlobalResponse.ErrorItem("Data conflict"));
+        var errors = List.of(new GlobalResponse.ErrorItem(conflictMessage(ex)));
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new GlobalResponse<>(errors));
     }
 
+    @ExceptionHandler(org.hibernate.exception.ConstraintViolationException.class)
+    public ResponseEntity<GlobalResponse<?>> handleConflict(org.hibernate.exception.ConstraintViolationException ex) {
+        var errors = List.of(new GlobalResponse.ErrorItem(conflictMessage(ex)));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new GlobalResponse<>(errors));
+    }
+
+    public static String conflictMessage(Throwable ex) {
+        String constraint = null;
+        Throwable root = ex;
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (constraint == null && cause instanceof org.hibernate.exception.ConstraintViolationException violation) {
+                constraint = violation.getConstraintName();
+            }
+            root = cause;
+        }
+        String detail = (constraint != null ? constraint : String.valueOf(root.getMessage()))
+                .toLowerCase(Locale.ROOT);
+        return CONSTRAINT_MESSAGES.entrySet().stream()
+                .filter(entry -> detail.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse("Data conflict");
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<GlobalResponse<?>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        var errors = List.of(new GlobalResponse.ErrorItem("Resource was modified concurrently, reload and retry"));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new GlobalResponse<>(errors));
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<GlobalResponse<?>> handleUnavailable(Exception ex) {
+        var errors = List.of(new GlobalResponse.ErrorItem("Database is busy, retry shortly"));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new GlobalResponse<>(errors));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<GlobalResponse<?>> handleGenericException(Exception ex) {
         var errors = List.of(new GlobalResponse.ErrorItem("Internal server error"));
@@ -0,0 +1,61 @@
+package com.api.employeemanagementapi.shared;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The tenant whose rows the current thread reads and writes. Requests get theirs from the
+ * {@code TenantFilter}; work handed to other threads must carry it over with {@link #run} or
+ * {@link #call}. A thread without one works on {@link #DEFAULT}, which is where every row of a
+ * single-tenant installation lives. {@link #ROOT} sees all tenants and is meant for background jobs
+ * that maintain shared tables.
+ */
+public final class TenantContext {
+    public static final String DEFAULT = "default";
+    public static final String ROOT = "*";
+    public static final String HEADER = "X-Tenant-Id";
+    public static final int MAX_LENGTH = 63;
+
+    private static final Pattern VALID = Pattern.compile("[a-z0-9][a-z0-9_-]{0," + (MAX_LENGTH - 1) + "}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {}
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT;
+    }
+
+    public static boolean isValid(String tenant) {
+        return tenant != null && VALID.matcher(tenant).matches();
+    }
+
+    public static void run(String tenant, Runnable task) {
+        call(tenant, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(String tenant, Supplier<T> task) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,13 @@
+package com.api.employeemanagementapi.shared;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends CustomResponseException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(429, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.employeemanagementapi.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTest {
+
+    @Test
+    void rejectsCallersBeyondTheLimitUntilAConnectionIsClosed() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, Duration.ofMillis(10), registry);
+
+        Connection first = bulkhead.getConnection();
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(1.0, registry.get("db.bulkhead.rejections").counter().count());
+
+        first.close();
+        first.close();
+        bulkhead.getConnection().close();
+        assertEquals(1.0, registry.get("db.bulkhead.available").gauge().value());
+    }
+
+    @Test
+    void releasesThePermitWhenThePoolFails() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, Duration.ofMillis(10), registry);
+
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(1.0, registry.get("db.bulkhead.available").gauge().value());
+        assertEquals(0.0, registry.get("db.bulkhead.rejections").counter().count());
+    }
+}
@@ -0,0 +1,73 @@
+package com.api.employeemanagementapi.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+    private final List<String> databases = new ArrayList<>();
+    private final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(database("primary"), List.of(database("replica1"), database("replica2")));
+    private final DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    private final TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    private final TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(name -> new JdbcTemplate(h2(name)).execute("drop all objects"));
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverReplicas() {
+        readOnly.setReadOnly(true);
+
+        assertEquals("replica1", readOnly.execute(status -> name()));
+        assertEquals("replica2", readOnly.execute(status -> name()));
+        assertEquals("replica1", readOnly.execute(status -> name()));
+    }
+
+    @Test
+    void writesAndUnscopedCallsUseThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> name()));
+        assertEquals("primary", name());
+    }
+
+    @Test
+    void pinnedReadsUseThePrimary() {
+        readOnly.setReadOnly(true);
+        List<String> seen = new ArrayList<>();
+
+        ReplicaRoutingDataSource.runOnPrimary(() -> seen.add(readOnly.execute(status -> name())));
+
+        assertEquals(List.of("primary"), seen);
+        assertEquals("replica1", readOnly.execute(status -> name()));
+    }
+
+    private String name() {
+        return jdbc.queryForObject("select name from whoami", String.class);
+    }
+
+    private DataSource database(String name) {
+        databases.add(name);
+        DataSource dataSource = h2(name);
+        new JdbcTemplate(dataSource).execute("create table whoami(name varchar(20))");
+        new JdbcTemplate(dataSource).update("insert into whoami values (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import com.api.employeemanagementapi.dtos.SignupResponse;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.UserAccount;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuntimeHintsConfigTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    RuntimeHintsConfigTest() {
+        new RuntimeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersLombokAccessorsAndConstructorsOfEntities() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserAccount.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(Employee.class.getMethod("setSalary", java.math.BigDecimal.class)).test(hints));
+    }
+
+    @Test
+    void registersRecordsAndTheTypesNestedInThem() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(SignupResponse.class.getMethod("username")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EmployeeStats.Group.class).test(hints));
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.service.TokenService;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantFilterTest {
+    private final TenantFilter filter = new TenantFilter(new ObjectMapper());
+    private final List<String> seen = new ArrayList<>();
+
+    @Test
+    void tokensWorkInTheirOwnTenant() throws Exception {
+        MockHttpServletResponse response = run(request("GET", "/employees", "acme", null));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(seen).containsExactly("acme");
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT);
+    }
+
+    @Test
+    void headerNamingAnotherTenantThanTheTokenIsForbidden() throws Exception {
+        MockHttpServletResponse response = run(request("GET", "/employees", "acme", "globex"));
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains("Token does not belong to tenant globex");
+        assertThat(seen).isEmpty();
+    }
+
+    @Test
+    void anonymousCallersCannotReachAnotherTenantsData() throws Exception {
+        for (String path : List.of("/employees", "/v2/employees", "/auth/logout")) {
+            MockHttpServletResponse response = run(request("GET", path, null, "acme"));
+
+            assertThat(response.getStatus()).isEqualTo(403);
+        }
+        MockHttpServletResponse response = run(request("GET", "/employees", null, null));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(seen).containsExactly(TenantContext.DEFAULT);
+    }
+
+    @Test
+    void loginAndSignupMayNameTheTenant() throws Exception {
+        MockHttpServletResponse login = run(request("POST", "/auth/login", null, "acme"));
+        MockHttpServletResponse signup = run(request("POST", "/auth/signup", null, "globex"));
+
+        assertThat(login.getStatus()).isEqualTo(200);
+        assertThat(signup.getStatus()).isEqualTo(200);
+        assertThat(seen).containsExactly("acme", "globex");
+    }
+
+    @Test
+    void malformedHeaderIsABadRequest() throws Exception {
+        MockHttpServletResponse response = run(request("POST", "/auth/login", null, "Acme!"));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(seen).isEmpty();
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> seen.add(TenantContext.current()));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String tokenTenant, String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (tokenTenant != null) {
+            Jwt jwt = Jwt.withTokenValue("token")
+                    .header("alg", "HS256")
+                    .claim(TokenService.USERNAME_CLAIM, "alice")
+                    .claim(TokenService.TENANT_CLAIM, tokenTenant)
+                    .build();
+            request.setUserPrincipal(new JwtAuthenticationToken(jwt));
+        }
+        if (header != null) {
+            request.addHeader(TenantContext.HEADER, header);
+        }
+        return request;
+    }
+}
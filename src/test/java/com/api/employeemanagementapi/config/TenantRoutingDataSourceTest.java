@@ -0,0 +1,55 @@
+package com.api.employeemanagementapi.config;
+
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TenantRoutingDataSourceTest {
+    private final List<String> databases = new ArrayList<>();
+    private final TenantRoutingDataSource routing =
+            new TenantRoutingDataSource(database("shared"), Map.of("acme", database("acme")));
+    private final JdbcTemplate jdbc = new JdbcTemplate(routing);
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(name -> new JdbcTemplate(h2(name)).execute("drop all objects"));
+    }
+
+    @Test
+    void dedicatedTenantsUseTheirOwnPool() {
+        assertEquals("acme", TenantContext.call("acme", this::name));
+    }
+
+    @Test
+    void otherTenantsAndRootShareThePool() {
+        assertEquals("shared", name());
+        assertEquals("shared", TenantContext.call("globex", this::name));
+        assertEquals("shared", TenantContext.call(TenantContext.ROOT, this::name));
+    }
+
+    private String name() {
+        return jdbc.queryForObject("select name from whoami", String.class);
+    }
+
+    private DataSource database(String name) {
+        databases.add(name);
+        DataSource dataSource = h2(name);
+        new JdbcTemplate(dataSource).execute("create table whoami(name varchar(20))");
+        new JdbcTemplate(dataSource).update("insert into whoami values (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:tenant-" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
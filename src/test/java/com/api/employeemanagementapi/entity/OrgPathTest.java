@@ -0,0 +1,40 @@
+package com.api.employeemanagementapi.entity;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrgPathTest {
+    private final UUID ceo = UUID.fromString("01900000-0000-7000-8000-000000000001");
+    private final UUID cto = UUID.fromString("01900000-0000-7000-8000-000000000002");
+
+    @Test
+    void childPathAppendsTheEmployeeToTheirOwnPath() {
+        Employee top = employee(ceo, OrgPath.ROOT);
+        Employee below = employee(cto, OrgPath.childPath(top));
+
+        assertThat(OrgPath.childPath(top)).isEqualTo("/" + ceo + "/");
+        assertThat(OrgPath.childPath(below)).isEqualTo("/" + ceo + "/" + cto + "/");
+        assertThat(OrgPath.managerIds(OrgPath.childPath(below))).containsExactly(cto, ceo);
+        assertThat(OrgPath.managerIds(OrgPath.ROOT)).isEmpty();
+    }
+
+    @Test
+    void upperBoundClosesTheRangeOfEveryPathWithThePrefix() {
+        String prefix = "/" + ceo + "/";
+        String upper = OrgPath.upperBound(prefix);
+
+        assertThat(prefix + cto + "/").isGreaterThanOrEqualTo(prefix).isLessThan(upper);
+        assertThat(prefix + "ffffffff-ffff-ffff-ffff-ffffffffffff/").isLessThan(upper);
+        assertThat("/" + cto + "/").isGreaterThanOrEqualTo(upper);
+        assertThat("/" + ceo.toString().substring(0, 35)).isLessThan(prefix);
+    }
+
+    private static Employee employee(UUID id, String orgPath) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setOrgPath(orgPath);
+        return employee;
+    }
+}
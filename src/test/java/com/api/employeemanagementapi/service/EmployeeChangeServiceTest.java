@@ -0,0 +1,188 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.ChangeFeedProperties;
+import com.api.employeemanagementapi.config.HibernateConfig;
+import com.api.employeemanagementapi.dtos.EmployeeChangePage;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.EmployeeChange;
+import com.api.employeemanagementapi.repository.EmployeeChangeRepository;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=none", "spring.sql.init.schema-locations=classpath:h2-schema.sql"})
+@Import({HibernateConfig.class, EmployeeChangeServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeChangeServiceTest {
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ChangeFeedProperties changeFeedProperties() {
+            return new ChangeFeedProperties(Duration.ofDays(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+        }
+
+        @Bean
+        EmployeeChangeService employeeChangeService(EmployeeChangeRepository repo, TransactionTemplate transactions,
+                                                    ChangeFeedProperties properties) {
+            return new EmployeeChangeService(repo, new ObjectMapper().findAndRegisterModules(), transactions, properties);
+        }
+
+        @Bean
+        EmployeeChangeStream employeeChangeStream(EmployeeChangeService changes, ChangeFeedProperties properties) {
+            return new EmployeeChangeStream(changes, properties);
+        }
+    }
+
+    @Autowired EmployeeChangeService service;
+    @Autowired EmployeeChangeStream stream;
+    @Autowired TransactionTemplate transactions;
+    @Autowired JdbcTemplate jdbc;
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("delete from employee_changes");
+    }
+
+    @Test
+    void relayNumbersChangesInCommitOrder() throws Exception {
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        UUID early = UUID.randomUUID();
+        UUID late = UUID.randomUUID();
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status -> {
+            service.record(changed(early));
+            recorded.countDown();
+            await(commit);
+        }));
+        recorded.await(5, TimeUnit.SECONDS);
+
+        record(TenantContext.DEFAULT, late);
+        service.relay();
+        commit.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        service.relay();
+
+        List<EmployeeChange> items = service.changes(0, 10).items();
+        assertThat(items).extracting(EmployeeChange::getEmployeeId).containsExactly(late, early);
+        assertThat(items).extracting(EmployeeChange::getSeq).containsExactly(1L, 2L);
+        assertThat(items.get(0).getId()).isGreaterThan(items.get(1).getId());
+    }
+
+    @Test
+    void cursorsIntoPurgedChangesAreGone() {
+        for (int i = 0; i < 3; i++) {
+            record(TenantContext.DEFAULT, UUID.randomUUID());
+        }
+        service.relay();
+        jdbc.update("update employee_changes set changed_at = changed_at - interval '2' day");
+
+        service.purge();
+
+        assertThat(service.changes(2, 10).items()).extracting(EmployeeChange::getSeq).containsExactly(3L);
+        assertThatThrownBy(() -> service.changes(1, 10))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(410));
+        assertThatThrownBy(() -> stream.subscribe(0))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(410));
+    }
+
+    @Test
+    void pagesOnlyShowTheCallersTenant() {
+        publish(TenantContext.DEFAULT);
+        publish("acme");
+        publish(TenantContext.DEFAULT);
+
+        EmployeeChangePage own = service.changes(0, 10);
+        EmployeeChangePage acme = TenantContext.call("acme", () -> service.changes(0, 10));
+
+        assertThat(own.items()).extracting(EmployeeChange::getSeq).containsExactly(1L, 3L);
+        assertThat(own.nextSince()).isEqualTo(3L);
+        assertThat(acme.items()).extracting(EmployeeChange::getSeq).containsExactly(2L);
+    }
+
+    @Test
+    void streamsResumeAfterTheLastEventIdWithinTheirTenant() throws Exception {
+        for (String tenant : List.of(TenantContext.DEFAULT, TenantContext.DEFAULT, "acme", TenantContext.DEFAULT)) {
+            publish(tenant);
+        }
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            stream.subscribe(1);
+            TenantContext.run("acme", () -> stream.subscribe(0));
+            stream.poll();
+
+            assertThat(sentIds(emitters.constructed().get(0))).containsExactly(2L, 4L);
+            assertThat(sentIds(emitters.constructed().get(1))).containsExactly(3L);
+        }
+    }
+
+    // Ids come from per-tenant blocks, so one relay run would number tenants' rows out of insertion order.
+    private void publish(String tenant) {
+        record(tenant, UUID.randomUUID());
+        service.relay();
+    }
+
+    private void record(String tenant, UUID employeeId) {
+        TenantContext.run(tenant, () -> transactions.executeWithoutResult(status -> service.record(changed(employeeId))));
+    }
+
+    private static EmployeeChangedEvent changed(UUID employeeId) {
+        Employee employee = new Employee();
+        employee.setId(employeeId);
+        employee.setVersion(0L);
+        return new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, employeeId, employee);
+    }
+
+    private static List<Long> sentIds(SseEmitter emitter) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeast(0)).send(events.capture());
+        List<Long> ids = new ArrayList<>();
+        for (SseEmitter.SseEventBuilder event : events.getAllValues()) {
+            for (var part : event.build()) {
+                Matcher id = EVENT_ID.matcher(part.getData().toString());
+                while (id.find()) {
+                    ids.add(Long.parseLong(id.group(1)));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.dtos.EmployeeImportReport;
+import com.api.employeemanagementapi.dtos.EmployeeImportResult;
+import com.api.employeemanagementapi.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportServiceTest {
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final EmployeeImportService importer = new EmployeeImportService(employeeService, new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void chunkThatLosesARaceIsRetriedRowByRow() {
+        // Stands in for a row inserted by someone else after the chunk's own uniqueness checks.
+        when(employeeService.createAll(anyMap())).thenAnswer(invocation -> {
+            Map<Long, Employee> rows = invocation.getArgument(0);
+            if (rows.values().stream().anyMatch(employee -> employee.getEmail().equals("taken@example.com"))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint \"uk_employees_tenant_email\"");
+            }
+            return rows.keySet().stream().map(row -> EmployeeImportResult.created(row, UUID.randomUUID())).toList();
+        });
+
+        EmployeeImportReport report = importer.importRecords(csv(
+                "firstName,lastName,salary,hireDate,email,phoneNumber,position",
+                "Ada,Lovelace,5000,2020-01-01,ada@example.com,1000001,Engineer",
+                "Alan,Turing,5000,2020-01-01,taken@example.com,1000002,Engineer",
+                "Grace,Hopper,5000,2020-01-01,grace@example.com,1000003,Engineer"), EmployeeImportService.TEXT_CSV);
+
+        assertThat(report.total()).isEqualTo(3);
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.results()).extracting(EmployeeImportResult::status)
+                .containsExactly("created", "failed", "created");
+        assertThat(report.results().get(1).message()).isEqualTo("Email is already in use");
+    }
+
+    private static ByteArrayInputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", List.of(lines)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.repository.EmployeeChangeRepository;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeListCacheTest {
+    private static final EmployeeListCache.Key ALL = new EmployeeListCache.Key(TenantContext.DEFAULT, null, null, null);
+    private static final EmployeeListCache.Key OTHER_ALL = new EmployeeListCache.Key("other", null, null, null);
+
+    private final EmployeeChangeRepository changeRepo = mock(EmployeeChangeRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EmployeeListCache cache = new EmployeeListCache(new ObjectMapper(), changeRepo, registry,
+            DataSize.ofMegabytes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static EmployeeChangedEvent changed(String tenant) {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        employee.setTenantId(tenant);
+        return new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, employee.getId(), employee);
+    }
+
+    private GlobalResponse<List<Integer>> load() {
+        return GlobalResponse.success(List.of(loads.incrementAndGet()));
+    }
+
+    @Test
+    void servesEncodedBodyUntilAWriteCommits() throws IOException {
+        EmployeeListCache.Body first = cache.get(ALL, this::load);
+        assertThat(cache.get(ALL, this::load)).isSameAs(first);
+        assertThat(new String(first.json())).isEqualTo("{\"status\":\"success\",\"data\":[1],\"errors\":null}");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(first.json());
+        }
+
+        cache.onEmployeeChanged(changed(TenantContext.DEFAULT));
+
+        assertThat(new String(cache.get(ALL, this::load).json())).contains("[2]");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void writesOnlyInvalidateTheirTenant() {
+        cache.get(ALL, this::load);
+        cache.get(OTHER_ALL, this::load);
+
+        cache.onEmployeeChanged(changed("other"));
+
+        assertThat(new String(cache.get(ALL, this::load).json())).contains("[1]");
+        assertThat(new String(cache.get(OTHER_ALL, this::load).json())).contains("[3]");
+    }
+
+    @Test
+    void changeFeedMovingInvalidatesEntries() {
+        when(changeRepo.findLatestSeq()).thenReturn(5L);
+        cache.sync();
+        cache.get(ALL, this::load);
+
+        cache.sync();
+        cache.get(ALL, this::load);
+        assertThat(loads).hasValue(1);
+
+        when(changeRepo.findLatestSeq()).thenReturn(6L);
+        cache.sync();
+        cache.get(ALL, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void metricsCarryTheSameTagsAsSpringCaches() {
+        cache.get(ALL, this::load);
+
+        assertThat(registry.get("cache.gets").tags("cache", "employee.list", "name", "employee.list",
+                "cache.manager", "employeeListCache", "result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+}
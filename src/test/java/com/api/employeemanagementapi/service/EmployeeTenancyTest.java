@@ -0,0 +1,196 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.CacheConfig;
+import com.api.employeemanagementapi.config.HibernateConfig;
+import com.api.employeemanagementapi.config.TenantScopedCache;
+import com.api.employeemanagementapi.dtos.EmployeeBulkUpdate;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.entity.UserAccount;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.GlobalExceptionResponse;
+import com.api.employeemanagementapi.shared.GlobalResponse;
+import com.api.employeemanagementapi.shared.TenantContext;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=none", "spring.sql.init.schema-locations=classpath:h2-schema.sql"})
+@Import({HibernateConfig.class, EmployeeServiceImpl.class, UserAccountService.class, UuidV7Generator.class,
+        EmployeeTenancyTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeTenancyTest {
+    private static final String OTHER = "acme";
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordHasher passwordHasher() {
+            PasswordHasher hasher = mock(PasswordHasher.class);
+            when(hasher.encode(anyString())).then(returnsFirstArg());
+            return hasher;
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES);
+        }
+    }
+
+    @Autowired EmployeeServiceImpl service;
+    @Autowired UserAccountService users;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("delete from user_accounts");
+        jdbc.execute("delete from employees");
+    }
+
+    @Test
+    void listsOnlyShowTheCallersTenant() {
+        Employee own = service.create(employee("Engineer", "own@example.com", "1000001"));
+        Employee other = TenantContext.call(OTHER, () -> service.create(employee("Engineer", "other@example.com", "1000002")));
+
+        assertThat(service.all()).extracting(Employee::getId).containsExactly(own.getId());
+        assertThat(service.page(null, 10).items()).extracting(Employee::getId).containsExactly(own.getId());
+        assertThat(TenantContext.call(OTHER, () -> service.all())).extracting(Employee::getId).containsExactly(other.getId());
+    }
+
+    @Test
+    void anotherTenantsEmployeeCannotBeReadOrChanged() {
+        UUID id = TenantContext.call(OTHER, () -> service.create(employee("Engineer", "other@example.com", "1000002"))).getId();
+        Employee replacement = employee("Manager", "taken@example.com", "1000003");
+        EmployeePatch patch = new EmployeePatch(BigDecimal.ONE, null, null, null);
+
+        assertNotFound(() -> service.get(id));
+        assertNotFound(() -> service.update(id, replacement, null));
+        assertNotFound(() -> service.patch(id, patch, null));
+        assertNotFound(() -> service.delete(id, null));
+
+        Employee unchanged = TenantContext.call(OTHER, () -> service.get(id));
+        assertThat(unchanged.getPosition()).isEqualTo("Engineer");
+        assertThat(unchanged.getSalary()).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    void bulkChangesStayWithinTheCallersTenant() {
+        Employee own = service.create(employee("Engineer", "own@example.com", "1000001"));
+        UUID other = TenantContext.call(OTHER, () -> service.create(employee("Engineer", "other@example.com", "1000002"))).getId();
+
+        int byPosition = service.updateAll(new EmployeeBulkUpdate(
+                new EmployeeBulkUpdate.Filter("Engineer", null, null, null), null, "Architect"));
+        int byIds = service.updateAll(new EmployeeBulkUpdate(
+                new EmployeeBulkUpdate.Filter(null, null, null, List.of(own.getId(), other)), BigDecimal.TEN, null));
+        int deleted = service.deleteAll(List.of(other));
+
+        assertThat(byPosition).isEqualTo(1);
+        assertThat(byIds).isEqualTo(1);
+        assertThat(deleted).isZero();
+        assertThat(service.get(own.getId()).getPosition()).isEqualTo("Architect");
+        Employee untouched = TenantContext.call(OTHER, () -> service.get(other));
+        assertThat(untouched.getPosition()).isEqualTo("Engineer");
+        assertThat(untouched.getSalary()).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    void bulkChangesOnlyEvictTheirOwnRowsFromTheCache() {
+        Employee own = service.create(employee("Engineer", "own@example.com", "1000001"));
+        Employee other = TenantContext.call(OTHER, () -> service.create(employee("Engineer", "other@example.com", "1000002")));
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES);
+        Object ownKey = TenantScopedCache.key(TenantContext.DEFAULT, own.getId());
+        Object otherKey = TenantScopedCache.key(OTHER, other.getId());
+        cache.put(ownKey, own);
+        cache.put(otherKey, other);
+
+        service.updateAll(new EmployeeBulkUpdate(new EmployeeBulkUpdate.Filter("Engineer", null, null, null), null, "Architect"));
+
+        assertThat(cache.get(ownKey)).isNull();
+        assertThat(cache.get(otherKey)).isNotNull();
+    }
+
+    @Test
+    void emailAndPhoneNumberAreUniquePerTenant() {
+        service.create(employee("Engineer", "same@example.com", "1000001"));
+        TenantContext.run(OTHER, () -> service.create(employee("Engineer", "same@example.com", "1000001")));
+
+        assertThatThrownBy(() -> service.create(employee("Engineer", "same@example.com", "1000009")))
+                .isInstanceOfSatisfying(ConstraintViolationException.class,
+                        ex -> assertThat(ex.getConstraintName()).containsIgnoringCase(Employee.EMAIL_CONSTRAINT));
+        assertThatThrownBy(() -> service.create(employee("Engineer", "new@example.com", "1000001")))
+                .isInstanceOfSatisfying(ConstraintViolationException.class,
+                        ex -> assertThat(ex.getConstraintName()).containsIgnoringCase(Employee.PHONE_NUMBER_CONSTRAINT));
+    }
+
+    @Test
+    void usernamesAreUniquePerTenant() {
+        Employee own = service.create(employee("Engineer", "own@example.com", "1000001"));
+        users.createUser(account("alice"), own);
+        TenantContext.run(OTHER, () -> users.createUser(account("alice"),
+                service.create(employee("Engineer", "other@example.com", "1000002"))));
+        Employee second = service.create(employee("Engineer", "second@example.com", "1000003"));
+
+        assertThat(users.findByUsername("alice").getEmployee().getId()).isEqualTo(own.getId());
+        assertThatThrownBy(() -> users.createUser(account("alice"), second))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(409));
+    }
+
+    @Test
+    void employeesHaveOneAccount() {
+        Employee own = service.create(employee("Engineer", "own@example.com", "1000001"));
+        users.createUser(account("alice"), own);
+
+        assertThatThrownBy(() -> users.createUser(account("alice2"), own))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class, ex -> assertThat(
+                        new GlobalExceptionResponse().handleConflict(ex).getBody().getErrors())
+                        .containsExactly(new GlobalResponse.ErrorItem("Employee already has an account")));
+    }
+
+    private static void assertNotFound(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(404));
+    }
+
+    private static Employee employee(String position, String email, String phoneNumber) {
+        Employee employee = new Employee();
+        employee.setFirstName("Ada");
+        employee.setLastName("Lovelace");
+        employee.setEmail(email);
+        employee.setPhoneNumber(phoneNumber);
+        employee.setPosition(position);
+        employee.setSalary(new BigDecimal("5000"));
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        return employee;
+    }
+
+    private static UserAccount account(String username) {
+        UserAccount account = new UserAccount();
+        account.setUsername(username);
+        account.setPassword("secret");
+        return account;
+    }
+}
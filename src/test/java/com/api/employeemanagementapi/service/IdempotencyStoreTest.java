@@ -0,0 +1,97 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.IdempotencyProperties;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final IdempotencyStore store = new IdempotencyStore(new ObjectMapper(),
+            new IdempotencyProperties(Duration.ofHours(1), 100, Duration.ofSeconds(5)), registry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void replaysTheFirstResultForTheSameKey() {
+        IdempotencyStore.Outcome<Integer> first = store.execute("create:alice", "k1", Map.of("a", 1), calls::incrementAndGet);
+        IdempotencyStore.Outcome<Integer> second = store.execute("create:alice", "k1", Map.of("a", 1), calls::incrementAndGet);
+
+        assertThat(first).isEqualTo(new IdempotencyStore.Outcome<>(1, false));
+        assertThat(second).isEqualTo(new IdempotencyStore.Outcome<>(1, true));
+        assertThat(calls).hasValue(1);
+        assertThat(registry.get("idempotency.requests").tag("outcome", "replayed").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tags("cache", "idempotency", "name", "idempotency",
+                "cache.manager", "idempotencyStore").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreScopedAndOptional() {
+        store.execute("create:alice", "k1", Map.of(), calls::incrementAndGet);
+        store.execute("create:bob", "k1", Map.of(), calls::incrementAndGet);
+        store.execute("create:bob", null, Map.of(), calls::incrementAndGet);
+        store.execute("create:bob", null, Map.of(), calls::incrementAndGet);
+
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void rejectsReuseWithDifferentBody() {
+        store.execute("create:alice", "k1", Map.of("a", 1), calls::incrementAndGet);
+
+        assertThatThrownBy(() -> store.execute("create:alice", "k1", Map.of("a", 2), calls::incrementAndGet))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(422));
+        assertThatThrownBy(() -> store.execute("create:alice", " ", Map.of(), calls::incrementAndGet))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(400));
+    }
+
+    @Test
+    void failuresAreNotRemembered() {
+        assertThatThrownBy(() -> store.execute("create:alice", "k1", Map.of(), () -> {
+            throw CustomResponseException.Conflict("duplicate email");
+        })).isInstanceOf(CustomResponseException.class);
+
+        assertThat(store.execute("create:alice", "k1", Map.of(), calls::incrementAndGet).replayed()).isFalse();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheOriginal() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyStore.Outcome<Integer>> original = CompletableFuture.supplyAsync(
+                () -> store.execute("create:alice", "k1", Map.of(), () -> {
+                    started.countDown();
+                    await(release);
+                    return calls.incrementAndGet();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<IdempotencyStore.Outcome<Integer>> duplicate = CompletableFuture.supplyAsync(
+                () -> store.execute("create:alice", "k1", Map.of(), calls::incrementAndGet));
+        Thread.sleep(50);
+        assertThat(duplicate).isNotDone();
+
+        release.countDown();
+        assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyStore.Outcome<>(1, false));
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyStore.Outcome<>(1, true));
+        assertThat(calls).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.LoginRateLimitProperties;
+import com.api.employeemanagementapi.shared.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private LoginRateLimiter limiter(int maxBuckets) {
+        return new LoginRateLimiter(new LoginRateLimitProperties(
+                new LoginRateLimitProperties.Bucket(2, Duration.ofMinutes(1)),
+                new LoginRateLimitProperties.Bucket(3, Duration.ofMinutes(1)), maxBuckets), registry, clock::get);
+    }
+
+    @Test
+    void limitsUsernameAndRefillsOverTime() {
+        LoginRateLimiter limiter = limiter(100);
+        limiter.acquire("alice", "10.0.0.1");
+        limiter.acquire("alice", "10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.acquire("alice", "10.0.0.3"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(30));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        limiter.acquire("alice", "10.0.0.3");
+        assertThat(registry.get("auth.login.rate.limit").tag("limited.by", "username").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsClientIpAcrossUsernames() {
+        LoginRateLimiter limiter = limiter(100);
+        limiter.acquire("alice", "10.0.0.1");
+        limiter.acquire("bob", "10.0.0.1");
+        limiter.acquire("carol", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("dave", "10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(registry.get("auth.login.rate.limit").tag("limited.by", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sweepDropsRefilledBucketsAndBoundsTheRest() {
+        LoginRateLimiter limiter = limiter(3);
+        limiter.acquire("alice", "10.0.0.1");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.acquire("bob", "10.0.0.2");
+        limiter.acquire("carol", "10.0.0.3");
+
+        limiter.sweep();
+
+        assertThat(limiter.size()).isEqualTo(3);
+        assertThat(registry.get("auth.login.rate.limit.evicted").tag("reason", "idle").counter().count()).isEqualTo(2);
+        assertThat(registry.get("auth.login.rate.limit.evicted").tag("reason", "overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void usernameLimitSurvivesAFloodOfClientIps() {
+        LoginRateLimiter limiter = limiter(10);
+        limiter.acquire("alice", "10.0.0.1");
+        limiter.acquire("alice", "10.0.0.2");
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire("user" + i, "10.1.0." + i);
+            String ip = "10.2.0." + i;
+            assertThatThrownBy(() -> limiter.acquire("alice", ip)).isInstanceOf(TooManyRequestsException.class);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(11);
+        assertThatThrownBy(() -> limiter.acquire("alice", "10.3.0.1")).isInstanceOf(TooManyRequestsException.class);
+    }
+}
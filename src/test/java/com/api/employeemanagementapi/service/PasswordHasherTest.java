@@ -0,0 +1,69 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.PasswordHashingProperties;
+import com.api.employeemanagementapi.config.SecurityConfig;
+import com.api.employeemanagementapi.entity.UserAccount;
+import com.api.employeemanagementapi.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+    private final PasswordHashingProperties properties = new PasswordHashingProperties("bcrypt", 5, 1, 4);
+    private final PasswordEncoder encoder = new SecurityConfig().passwordEncoder(properties);
+    private final UserAccountRepository repository = mock(UserAccountRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHasher hasher = new PasswordHasher(encoder, repository, properties, registry);
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void rehashesLegacyHashesInTheBackground() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        UserAccount user = user(legacy);
+        when(repository.updatePassword(any(), anyString(), anyString())).thenReturn(1);
+
+        assertTrue(hasher.matches("secret", legacy));
+        hasher.rehashIfNeeded(user, "secret");
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(repository, timeout(5000)).updatePassword(eq(user.getId()), eq(legacy), rehashed.capture());
+        assertTrue(rehashed.getValue().startsWith("{bcrypt}$2a$05$"));
+        assertTrue(hasher.matches("secret", rehashed.getValue()));
+    }
+
+    @Test
+    void leavesCurrentHashesAlone() {
+        String current = hasher.encode("secret");
+
+        hasher.rehashIfNeeded(user(current), "secret");
+
+        verify(repository, never()).updatePassword(any(), anyString(), anyString());
+        assertEquals(0.0, registry.get("password.rehash").tag("outcome", "updated").counter().count());
+    }
+
+    private static UserAccount user(String hash) {
+        UserAccount user = new UserAccount();
+        user.setId(UUID.randomUUID());
+        user.setPassword(hash);
+        return user;
+    }
+}
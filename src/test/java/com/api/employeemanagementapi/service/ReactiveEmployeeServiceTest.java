@@ -0,0 +1,165 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.CacheConfig;
+import com.api.employeemanagementapi.config.TenantProperties;
+import com.api.employeemanagementapi.config.TenantScopedCache;
+import com.api.employeemanagementapi.dtos.EmployeePatch;
+import com.api.employeemanagementapi.entity.Employee;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import com.api.employeemanagementapi.shared.ETags;
+import com.api.employeemanagementapi.shared.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveEmployeeServiceTest {
+    private final ConnectionFactory connections =
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive-employees;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+    private final DatabaseClient db = DatabaseClient.create(connections);
+    private final DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+    private final ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES);
+    private final ReactiveEmployeeService service = new ReactiveEmployeeService(db,
+            TransactionalOperator.create(new R2dbcTransactionManager(connections)),
+            new ObjectMapper().findAndRegisterModules(), new UuidV7Generator(), caches,
+            beans.getBeanProvider(EmployeeListCache.class), beans.getBeanProvider(EmployeeStatsAggregator.class),
+            new TenantProperties(null));
+
+    @BeforeEach
+    void setUp() {
+        for (String ddl : List.of(
+                "create table employees (id uuid primary key, first_name varchar(100) not null, last_name varchar(100) not null,"
+                        + " email varchar(100) not null, phone_number varchar(15) not null,"
+                        + " position varchar(50) not null, salary numeric(12, 2) not null, hire_date date not null,"
+                        + " manager_id uuid, org_path varchar(2048) default '/' not null,"
+                        + " tenant_id varchar(63) default 'default' not null, version bigint not null,"
+                        + " unique (tenant_id, email), unique (tenant_id, phone_number))",
+                "create sequence employee_changes_id_seq start with 1 increment by 50",
+                "create table employee_changes (id bigint primary key, seq bigint, employee_id uuid not null,"
+                        + " type varchar(10) not null, version bigint, changed_at timestamp with time zone not null, payload text,"
+                        + " tenant_id varchar(63) default 'default' not null)")) {
+            db.sql(ddl).then().block();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.sql("drop all objects").then().block();
+    }
+
+    @Test
+    void writesRecordTheirChangesInTheSameTransaction() {
+        Employee created = service.create(employee(1)).block();
+        service.patch(created.getId(), new EmployeePatch(new BigDecimal("1200.00"), null, null, null), Set.of(0L)).block();
+        service.delete(created.getId(), Set.of(1L)).block();
+
+        assertThat(db.sql("select type, version from employee_changes order by id")
+                .map(row -> row.get("type", String.class) + "@" + row.get("version", Long.class))
+                .all().collectList().block())
+                .containsExactly("CREATED@0", "UPDATED@1", "DELETED@1");
+        assertThat(caches.getCache(CacheConfig.EMPLOYEES).get(TenantScopedCache.key(TenantContext.DEFAULT, created.getId())))
+                .isNull();
+    }
+
+    @Test
+    void staleVersionOrInvalidChangeLeavesTheRowUntouched() {
+        Employee created = service.create(employee(1)).block();
+
+        assertThatThrownBy(() -> service.patch(created.getId(), new EmployeePatch(BigDecimal.TEN, null, null, null), Set.of(3L)).block())
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(412));
+        assertThatThrownBy(() -> service.patch(created.getId(), new EmployeePatch(null, " ", null, null), null).block())
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(400));
+
+        Employee current = service.get(created.getId()).block();
+        assertThat(current.getVersion()).isZero();
+        assertThat(current.getEmail()).isEqualTo("e1@example.com");
+    }
+
+    @Test
+    void ifMatchComparesStronglyAndAcceptsAnyListedTag() {
+        Employee created = service.create(employee(1)).block();
+        EmployeePatch raise = new EmployeePatch(BigDecimal.TEN, null, null, null);
+
+        assertThatThrownBy(() -> service.patch(created.getId(), raise, ETags.parseIfMatch("W/\"0\"")).block())
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(412));
+        Employee patched = service.patch(created.getId(), raise, ETags.parseIfMatch("\"7\", \"0\"")).block();
+
+        assertThat(patched.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void managerWithReportsCannotBeDeleted() {
+        Employee manager = service.create(employee(1)).block();
+        Employee report = service.create(employee(2)).block();
+        db.sql("update employees set manager_id = :manager where id = :report")
+                .bind("manager", manager.getId())
+                .bind("report", report.getId())
+                .then().block();
+
+        assertThatThrownBy(() -> service.delete(manager.getId(), null).block())
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(409));
+        assertThat(service.page(null, 10).block().items())
+                .extracting(Employee::getManagerId).containsExactly(null, manager.getId());
+
+        service.delete(report.getId(), null).block();
+        service.delete(manager.getId(), null).block();
+    }
+
+    @Test
+    void pagesAndStreamsInHireDateOrder() {
+        for (int i = 3; i >= 1; i--) {
+            service.create(employee(i)).block();
+        }
+
+        var first = service.page(null, 2).block();
+        var second = service.page(first.nextCursor(), 2).block();
+
+        assertThat(first.items()).extracting(Employee::getFirstName).containsExactly("F1", "F2");
+        assertThat(second.items()).extracting(Employee::getFirstName).containsExactly("F3");
+        assertThat(second.nextCursor()).isNull();
+        assertThat(service.streamAll().map(Employee::getFirstName).collectList().block()).containsExactly("F1", "F2", "F3");
+    }
+
+    @Test
+    void tenantsOnlySeeTheirOwnEmployees() {
+        Employee own = service.create(employee(1)).block();
+        Employee other = TenantContext.call("acme", () -> service.create(employee(1)).block());
+
+        assertThat(other.getTenantId()).isEqualTo("acme");
+        assertThat(service.all().block()).extracting(Employee::getId).containsExactly(own.getId());
+        assertThat(TenantContext.call("acme", () -> service.all().block())).extracting(Employee::getId)
+                .containsExactly(other.getId());
+        assertThatThrownBy(() -> service.patch(other.getId(), new EmployeePatch(BigDecimal.TEN, null, null, null), null).block())
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(404));
+        assertThat(db.sql("select tenant_id from employee_changes order by id")
+                .map(row -> row.get("tenant_id", String.class))
+                .all().collectList().block())
+                .containsExactly(TenantContext.DEFAULT, "acme");
+    }
+
+    private static Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setFirstName("F" + i);
+        employee.setLastName("L" + i);
+        employee.setEmail("e" + i + "@example.com");
+        employee.setPhoneNumber("+9725000000" + i);
+        employee.setPosition("Engineer");
+        employee.setSalary(new BigDecimal("1000.00"));
+        employee.setHireDate(LocalDate.of(2020, 1, i));
+        return employee;
+    }
+}
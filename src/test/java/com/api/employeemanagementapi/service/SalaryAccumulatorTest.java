@@ -0,0 +1,44 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.dtos.EmployeeStats;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SalaryAccumulatorTest {
+
+    @Test
+    void percentilesInterpolateLikePercentileCont() {
+        SalaryAccumulator accumulator = new SalaryAccumulator();
+        for (int salary : new int[]{100, 200, 300, 400}) {
+            accumulator.add(BigDecimal.valueOf(salary));
+        }
+
+        EmployeeStats.Group group = accumulator.toGroup("Engineer");
+
+        assertEquals(4, group.headcount());
+        assertEquals(0, new BigDecimal("100").compareTo(group.minSalary()));
+        assertEquals(0, new BigDecimal("400").compareTo(group.maxSalary()));
+        assertEquals(new BigDecimal("250.00"), group.averageSalary());
+        assertEquals(new BigDecimal("250.00"), group.p50Salary());
+        assertEquals(new BigDecimal("370.00"), group.p90Salary());
+        assertEquals(new BigDecimal("397.00"), group.p99Salary());
+    }
+
+    @Test
+    void removingDuplicatesKeepsRemainingCopies() {
+        SalaryAccumulator accumulator = new SalaryAccumulator();
+        accumulator.add(new BigDecimal("100.00"));
+        accumulator.add(new BigDecimal("100"));
+        accumulator.remove(new BigDecimal("100.00"));
+
+        EmployeeStats.Group group = accumulator.toGroup("Analyst");
+        assertEquals(1, group.headcount());
+        assertEquals(0, new BigDecimal("100").compareTo(group.minSalary()));
+
+        accumulator.remove(new BigDecimal("100"));
+        assertTrue(accumulator.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.api.employeemanagementapi.service;
+
+import com.api.employeemanagementapi.config.TokenProperties;
+import com.api.employeemanagementapi.shared.CustomResponseException;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenDenylistTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final TokenDenylist denylist = new TokenDenylist(
+            new TokenProperties("", Duration.ofMinutes(15), "test", 3), clock);
+
+    @Test
+    void entriesExpireWithTheirToken() {
+        Instant now = clock.instant();
+        denylist.revoke("short", now.plus(Duration.ofMinutes(1)));
+        denylist.revoke("long", now.plus(Duration.ofMinutes(10)));
+        denylist.revoke("expired", now.minusSeconds(1));
+
+        assertThat(denylist.isRevoked("short")).isTrue();
+        assertThat(denylist.isRevoked("expired")).isFalse();
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThat(denylist.isRevoked("short")).isFalse();
+        assertThat(denylist.isRevoked("long")).isTrue();
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+
+    @Test
+    void refusesRevocationsWhenFullInsteadOfEvicting() {
+        Instant expiry = clock.instant().plus(Duration.ofMinutes(10));
+        for (int i = 0; i < 3; i++) {
+            denylist.revoke("t" + i, expiry);
+        }
+
+        assertThatThrownBy(() -> denylist.revoke("t3", expiry))
+                .isInstanceOfSatisfying(CustomResponseException.class, ex -> assertThat(ex.getCode()).isEqualTo(503));
+        assertThat(denylist.isRevoked("t0")).isTrue();
+        assertThat(denylist.isRevoked("t2")).isTrue();
+
+        clock.advance(Duration.ofMinutes(11));
+        denylist.revoke("t3", clock.instant().plus(Duration.ofMinutes(10)));
+
+        assertThat(denylist.isRevoked("t3")).isTrue();
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
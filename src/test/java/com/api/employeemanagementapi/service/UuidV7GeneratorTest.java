@@ -0,0 +1,58 @@
+package com.api.employeemanagementapi.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void encodesVersionVariantAndTimestamp() {
+        UUID id = new UuidV7Generator(() -> 1_700_000_000_123L).next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_123L);
+    }
+
+    @Test
+    void staysOrderedWithinAMillisecondAndWhenTheClockStepsBack() {
+        AtomicLong clock = new AtomicLong(1_000);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+            if (i == 5_000) {
+                clock.set(900);
+            }
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        // 4096 ids per millisecond, then the counter carries into the timestamp.
+        assertThat(ids.getLast().getMostSignificantBits() >>> 16).isEqualTo(1_002);
+    }
+
+    @Test
+    void isUniqueAcrossThreads() throws InterruptedException {
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(generator.next());
+                    }
+                });
+            }
+        }
+        assertThat(ids).hasSize(400_000);
+    }
+}
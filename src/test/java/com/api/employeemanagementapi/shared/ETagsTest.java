@@ -0,0 +1,26 @@
+package com.api.employeemanagementapi.shared;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @Test
+    void absentOrWildcardIsUnconditional() {
+        assertThat(ETags.parseIfMatch(null)).isNull();
+        assertThat(ETags.parseIfMatch(" * ")).isNull();
+    }
+
+    @Test
+    void weakTagsNeverMatch() {
+        assertThat(ETags.parseIfMatch("W/\"3\"")).isEmpty();
+        assertThat(ETags.parseIfMatch("W/\"3\", \"4\"")).containsExactly(4L);
+    }
+
+    @Test
+    void everyStrongTagInAListCounts() {
+        assertThat(ETags.parseIfMatch("\"3\",\"5\" , \"x\"")).containsExactlyInAnyOrder(3L, 5L);
+        assertThat(ETags.parseIfMatch("3")).isEmpty();
+    }
+}
@@ -0,0 +1,42 @@
+-- The entities' tables for JPA tests on H2, which cannot run the generated DDL (it has no collate "C").
+create table employees (
+    id uuid primary key,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    phone_number varchar(255) not null,
+    position varchar(255) not null,
+    salary numeric(38, 2) not null,
+    hire_date date not null,
+    manager_id uuid,
+    org_path varchar(2048) default '/' not null,
+    tenant_id varchar(63) default 'default' not null,
+    version bigint default 0 not null,
+    constraint uk_employees_tenant_email unique (tenant_id, email),
+    constraint uk_employees_tenant_phone_number unique (tenant_id, phone_number)
+);
+
+create table user_accounts (
+    id uuid primary key,
+    username varchar(50) not null,
+    password varchar(255) not null,
+    role varchar(20) not null,
+    tenant_id varchar(63) default 'default' not null,
+    employee_id uuid not null references employees (id),
+    constraint uk_user_accounts_tenant_username unique (tenant_id, username),
+    constraint uk_user_accounts_employee unique (employee_id)
+);
+
+create sequence employee_changes_id_seq start with 1 increment by 50;
+
+create table employee_changes (
+    id bigint primary key,
+    seq bigint,
+    tenant_id varchar(63) default 'default' not null,
+    employee_id uuid not null,
+    type varchar(10) not null,
+    version bigint,
+    changed_at timestamp(6) with time zone not null,
+    payload text,
+    constraint uk_employee_changes_seq unique (seq)
+);